@@ -0,0 +1,71 @@
+package com.promanage.benchmark;
+
+import com.promanage.model.Project;
+import com.promanage.model.ProjectCandidate;
+import com.promanage.model.ProjectStatus;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+//  Seeded benchmark inputs
+//  The same (size, horizon, distribution) always yields the same projects, so
+//  runs on different commits are measured against identical data.
+
+public final class BenchmarkData {
+
+    static final long SEED = 20240601L;
+
+    private BenchmarkData() {
+    }
+
+    public enum Distribution {
+        // Deadlines and revenues uniform over their ranges
+        UNIFORM,
+        // Most deadlines early in the horizon, heavy-tailed revenue
+        SKEWED,
+        // Ten revenue levels only, so priority ties are everywhere
+        TIES
+    }
+
+    public static List<ProjectCandidate> candidates(int size, int horizonDays, Distribution distribution) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        List<ProjectCandidate> candidates = new ArrayList<>(size);
+        for (int id = 1; id <= size; id++) {
+            candidates.add(new ProjectCandidate(id, deadline(random, horizonDays, distribution),
+                    revenueCents(random, distribution)));
+        }
+        return candidates;
+    }
+
+    public static List<Project> projects(int size, int horizonDays, Distribution distribution) {
+        List<Project> projects = new ArrayList<>(size);
+        for (ProjectCandidate candidate : candidates(size, horizonDays, distribution)) {
+            projects.add(new Project(candidate.projectId(), "Project " + candidate.projectId(),
+                    candidate.deadline(), candidate.revenue(), ProjectStatus.PENDING, null));
+        }
+        return projects;
+    }
+
+    private static int deadline(SplittableRandom random, int horizonDays, Distribution distribution) {
+        if (distribution == Distribution.SKEWED) {
+            // Minimum of two draws: day 1 is about twice as likely as the last day
+            return 1 + Math.min(random.nextInt(horizonDays), random.nextInt(horizonDays));
+        }
+        return 1 + random.nextInt(horizonDays);
+    }
+
+    private static long revenueCents(SplittableRandom random, Distribution distribution) {
+        switch (distribution) {
+            case SKEWED:
+                // Pareto (alpha = 1.5) from ₹1,000, capped to fit DECIMAL(10, 2)
+                double pareto = 1_000.0 / Math.pow(1.0 - random.nextDouble(), 1.0 / 1.5);
+                return BigDecimal.valueOf(Math.min(pareto, 99_999_999.0)).movePointRight(2).longValue();
+            case TIES:
+                return 100_000L * (1 + random.nextInt(10));
+            default:
+                return 100_000L + random.nextLong(100_000_000L);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.promanage.benchmark;
+
+import com.promanage.dao.InMemoryProjectDAO;
+import com.promanage.model.Project;
+import com.promanage.model.ProjectStatus;
+import com.promanage.model.ScheduleResult;
+import com.promanage.service.SchedulingService;
+import com.promanage.service.engine.SchedulingEngineType;
+import com.promanage.utils.AppConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+//  Full SchedulingService.generateSchedule over InMemoryProjectDAO
+//  Covers candidate reads, the engine, the status write-back and building the
+//  ScheduleResult. Statuses are reset before every invocation (not measured).
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class GenerateScheduleBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    @Param({"5", "30"})
+    private int horizonDays;
+
+    @Param({"UNIFORM", "SKEWED"})
+    private BenchmarkData.Distribution distribution;
+
+    @Param({"GREEDY", "STREAMING"})
+    private SchedulingEngineType engine;
+
+    @Param({"false", "true"})
+    private boolean candidatePushdown;
+
+    private InMemoryProjectDAO projectDAO;
+    private SchedulingService schedulingService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        System.setProperty(AppConfig.CANDIDATE_PUSHDOWN, Boolean.toString(candidatePushdown));
+        projectDAO = new InMemoryProjectDAO();
+        for (Project project : BenchmarkData.projects(size, horizonDays, distribution)) {
+            projectDAO.addProject(project);
+        }
+        schedulingService = new SchedulingService(projectDAO, engine.create(horizonDays, 1));
+    }
+
+    @Setup(Level.Invocation)
+    public void resetStatuses() {
+        projectDAO.transitionStatus(ProjectStatus.SCHEDULED, ProjectStatus.PENDING);
+    }
+
+    @Benchmark
+    public ScheduleResult generateSchedule() throws SQLException {
+        return schedulingService.generateSchedule();
+    }
+}
@@ -0,0 +1,68 @@
+package com.promanage.benchmark;
+
+import com.promanage.model.ProjectCandidate;
+import com.promanage.service.engine.SchedulePlan;
+import com.promanage.service.engine.SchedulingEngine;
+import com.promanage.service.engine.SchedulingEngineType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+//  Scheduling core on in-memory candidates: no database, no title loading
+//  Engines that need revenue order get pre-sorted input (the database sorts for
+//  them in production); the streaming engine gets the unsorted list.
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class SchedulingEngineBenchmark {
+
+    @Param({"1000", "100000", "1000000", "10000000"})
+    private int size;
+
+    @Param({"5", "30", "250"})
+    private int horizonDays;
+
+    @Param({"1"})
+    private int dayCapacity;
+
+    @Param({"UNIFORM", "SKEWED", "TIES"})
+    private BenchmarkData.Distribution distribution;
+
+    @Param({"GREEDY", "HEAP", "STREAMING"})
+    private SchedulingEngineType engine;
+
+    private SchedulingEngine schedulingEngine;
+    private List<ProjectCandidate> input;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        schedulingEngine = engine.create(horizonDays, dayCapacity);
+        input = BenchmarkData.candidates(size, horizonDays, distribution);
+        if (schedulingEngine.requiresRevenueOrder()) {
+            input = new ArrayList<>(input);
+            input.sort(ProjectCandidate::compareByPriority);
+        }
+    }
+
+    @Benchmark
+    public SchedulePlan schedule() {
+        return schedulingEngine.schedule(input);
+    }
+}
@@ -0,0 +1,64 @@
+package com.promanage.benchmark;
+
+import com.promanage.service.engine.SlotAllocator;
+import com.promanage.service.engine.SlotAllocatorType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+//  Latest-free-slot lookups (the old findLatestAvailableSlot)
+//  One operation fills a fresh horizon from a fixed deadline sequence that asks
+//  for twice as many slots as exist, so the second half mostly misses.
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SlotAllocatorBenchmark {
+
+    @Param({"5", "250", "10000"})
+    private int horizonDays;
+
+    @Param({"1", "4"})
+    private int dayCapacity;
+
+    @Param({"ARRAY_SCAN", "DISJOINT_SET"})
+    private SlotAllocatorType allocator;
+
+    private int[] deadlines;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(BenchmarkData.SEED);
+        deadlines = new int[2 * horizonDays * dayCapacity];
+        for (int i = 0; i < deadlines.length; i++) {
+            deadlines[i] = 1 + random.nextInt(horizonDays);
+        }
+    }
+
+    @Benchmark
+    public int fillHorizon() {
+        SlotAllocator slots = allocator.create(horizonDays, dayCapacity);
+        int placed = 0;
+        for (int deadline : deadlines) {
+            if (slots.allocate(deadline) >= 0) {
+                placed++;
+            }
+        }
+        return placed;
+    }
+}
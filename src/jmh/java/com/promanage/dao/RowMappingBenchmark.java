@@ -0,0 +1,110 @@
+package com.promanage.dao;
+
+import com.promanage.benchmark.BenchmarkData;
+import com.promanage.model.Project;
+import com.promanage.model.ProjectCandidate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+//  ResultSet-to-object mapping in ProjectDAOImpl, without a database
+//  Rows come from a Proxy-backed ResultSet over pre-built column values, so
+//  the reflective dispatch is part of every figure; compare the two mappers
+//  with each other and across commits rather than as absolute costs.
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RowMappingBenchmark {
+
+    @Param({"1000", "100000"})
+    private int rows;
+
+    private int[] projectIds;
+    private String[] titles;
+    private int[] deadlines;
+    private BigDecimal[] revenues;
+    private long[] revenueCents;
+    private Timestamp createdAt;
+
+    private int cursor;
+    private ResultSet resultSet;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<ProjectCandidate> candidates = BenchmarkData.candidates(rows, 5, BenchmarkData.Distribution.UNIFORM);
+        projectIds = new int[rows];
+        titles = new String[rows];
+        deadlines = new int[rows];
+        revenues = new BigDecimal[rows];
+        revenueCents = new long[rows];
+        for (int i = 0; i < rows; i++) {
+            ProjectCandidate candidate = candidates.get(i);
+            projectIds[i] = candidate.projectId();
+            titles[i] = "Project " + candidate.projectId();
+            deadlines[i] = candidate.deadline();
+            revenues[i] = candidate.revenue();
+            revenueCents[i] = candidate.revenueCents();
+        }
+        createdAt = Timestamp.valueOf("2024-06-01 09:00:00");
+        resultSet = (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(),
+                new Class<?>[]{ResultSet.class}, (proxy, method, args) -> column(method.getName(), args[0]));
+    }
+
+    @Benchmark
+    public void mapProjects(Blackhole blackhole) throws SQLException {
+        for (cursor = 0; cursor < rows; cursor++) {
+            Project project = ProjectDAOImpl.extractProjectFromResultSet(resultSet);
+            blackhole.consume(project);
+        }
+    }
+
+    @Benchmark
+    public void mapCandidates(Blackhole blackhole) throws SQLException {
+        for (cursor = 0; cursor < rows; cursor++) {
+            ProjectCandidate candidate = ProjectDAOImpl.extractCandidate(resultSet);
+            blackhole.consume(candidate);
+        }
+    }
+
+    // Column lookups by label (full rows) or by position (candidate projection)
+    private Object column(String getter, Object column) {
+        if (column instanceof Integer position) {
+            switch (position) {
+                case 1: return projectIds[cursor];
+                case 2: return deadlines[cursor];
+                default: return revenueCents[cursor];
+            }
+        }
+        switch ((String) column) {
+            case "project_id": return projectIds[cursor];
+            case "title": return titles[cursor];
+            case "deadline": return deadlines[cursor];
+            case "revenue": return revenues[cursor];
+            case "status": return (short) 0;
+            case "created_at": return createdAt;
+            default: throw new IllegalArgumentException(getter + "(" + column + ")");
+        }
+    }
+}
@@ -0,0 +1,474 @@
+package com.promanage.dao;
+
+import com.promanage.model.BulkInsertResult;
+import com.promanage.model.Project;
+import com.promanage.model.ProjectCandidate;
+import com.promanage.model.ProjectLookup;
+import com.promanage.model.ProjectStatus;
+import com.promanage.model.SchedulingCandidates;
+import com.promanage.utils.AppConfig;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+//  Read-through cache in front of another ProjectDAO
+//  - getProjectById is served from a bounded LRU cache of projects by ID
+//  - getAllProjects / getPendingProjects (and their streamed forms) are served
+//    from cached listings, kept only while they have at most maxListingSize rows
+//  Writes made through this DAO evict exactly the IDs they touch and drop the
+//  listings they can change. Writes made elsewhere (another process, psql) are
+//  not seen, so only use it where this application is the sole writer. That
+//  includes archiving: ProjectArchiver deletes from projects, so archive from
+//  the application (menu option 12), which drops this cache afterwards, rather
+//  than running ProjectArchiver on its own while the application is up.
+//
+//  Callers always get copies; cached Project instances are never handed out.
+//  A read that raced with a write is returned but not cached (generation check).
+
+public class CachingProjectDAO implements ProjectDAO {
+
+    private final ProjectDAO delegate;
+    private final int maxProjects;
+    private final int maxListingSize;
+
+    private final LinkedHashMap<Integer, Project> byId;
+    private List<Project> allProjects;
+    private List<Project> pendingProjects;
+    private long generation;
+
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long invalidations;
+
+    public CachingProjectDAO(ProjectDAO delegate, int maxProjects, int maxListingSize) {
+        if (maxProjects <= 0) {
+            throw new IllegalArgumentException("Cache must hold at least one project: " + maxProjects);
+        }
+        this.delegate = delegate;
+        this.maxProjects = maxProjects;
+        this.maxListingSize = maxListingSize;
+        this.byId = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, Project> eldest) {
+                if (size() > CachingProjectDAO.this.maxProjects) {
+                    evictions++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+//  Wrap the delegate when cache.enabled is set, sized from cache.maxProjects
+//  and cache.maxListingSize; otherwise return it unchanged
+
+    public static ProjectDAO fromConfig(ProjectDAO delegate) {
+        if (!Boolean.parseBoolean(AppConfig.getString(AppConfig.CACHE_ENABLED, "false"))) {
+            return delegate;
+        }
+        return new CachingProjectDAO(delegate,
+                AppConfig.getInt(AppConfig.CACHE_MAX_PROJECTS, 10_000),
+                AppConfig.getInt(AppConfig.CACHE_MAX_LISTING_SIZE, 50_000));
+    }
+
+//  Load both listings (and as many projects by ID as fit) ahead of the first request
+
+    public void warmUp() throws SQLException {
+        List<Project> all = getAllProjects();
+        getPendingProjects();
+        synchronized (this) {
+            for (Project project : all) {
+                if (byId.size() >= maxProjects) {
+                    break;
+                }
+                byId.putIfAbsent(project.getProjectId(), copyOf(project));
+            }
+        }
+    }
+
+//  Drop everything cached, for writes that bypass this DAO (e.g. a COPY import)
+
+    public synchronized void invalidateAll() {
+        byId.clear();
+        dropListings();
+    }
+
+    @Override
+    public boolean addProject(Project project) throws SQLException {
+        boolean added = delegate.addProject(project);
+        if (added) {
+            synchronized (this) {
+                generation++;
+                invalidations++;
+                allProjects = null;
+                if (project.getStatus() == ProjectStatus.PENDING) {
+                    pendingProjects = null;
+                }
+            }
+        }
+        return added;
+    }
+
+    @Override
+    public BulkInsertResult addProjects(Collection<Project> projects, int chunkSize) throws SQLException {
+        try {
+            return delegate.addProjects(projects, chunkSize);
+        } finally {
+            synchronized (this) {
+                dropListings();
+            }
+        }
+    }
+
+    @Override
+    public List<Project> getAllProjects() throws SQLException {
+        long readGeneration;
+        synchronized (this) {
+            if (allProjects != null) {
+                hits++;
+                return copyOf(allProjects);
+            }
+            misses++;
+            readGeneration = generation;
+        }
+        List<Project> projects = delegate.getAllProjects();
+        synchronized (this) {
+            if (generation == readGeneration && projects.size() <= maxListingSize) {
+                allProjects = copyOf(projects);
+            }
+        }
+        return projects;
+    }
+
+    // Archived rows are cold by definition and never cached
+    @Override
+    public List<Project> getAllProjects(boolean includeArchived) throws SQLException {
+        return includeArchived ? delegate.getAllProjects(true) : getAllProjects();
+    }
+
+    @Override
+    public List<Project> getPendingProjects() throws SQLException {
+        long readGeneration;
+        synchronized (this) {
+            if (pendingProjects != null) {
+                hits++;
+                return copyOf(pendingProjects);
+            }
+            misses++;
+            readGeneration = generation;
+        }
+        List<Project> projects = delegate.getPendingProjects();
+        synchronized (this) {
+            if (generation == readGeneration && projects.size() <= maxListingSize) {
+                pendingProjects = copyOf(projects);
+            }
+        }
+        return projects;
+    }
+
+    // Served from a cached listing when there is one; otherwise streamed from
+    // the delegate without caching, since the size is not known up front
+    @Override
+    public Stream<Project> streamAllProjects() throws SQLException {
+        synchronized (this) {
+            if (allProjects != null) {
+                hits++;
+                return copyOf(allProjects).stream();
+            }
+        }
+        return delegate.streamAllProjects();
+    }
+
+    @Override
+    public Stream<Project> streamPendingProjects() throws SQLException {
+        synchronized (this) {
+            if (pendingProjects != null) {
+                hits++;
+                return copyOf(pendingProjects).stream();
+            }
+        }
+        return delegate.streamPendingProjects();
+    }
+
+    @Override
+    public Stream<ProjectCandidate> streamPendingCandidates() throws SQLException {
+        return delegate.streamPendingCandidates();
+    }
+
+    @Override
+    public Stream<ProjectCandidate> streamPendingCandidatesUnordered() throws SQLException {
+        return delegate.streamPendingCandidatesUnordered();
+    }
+
+    @Override
+    public Stream<ProjectCandidate> streamCandidatesByStatus(ProjectStatus status) throws SQLException {
+        return delegate.streamCandidatesByStatus(status);
+    }
+
+    @Override
+    public SchedulingCandidates getSchedulingCandidates(int horizonDays, int dayCapacity) throws SQLException {
+        return delegate.getSchedulingCandidates(horizonDays, dayCapacity);
+    }
+
+    @Override
+    public Project getProjectById(int projectId) throws SQLException {
+        long readGeneration;
+        synchronized (this) {
+            Project cached = byId.get(projectId);
+            if (cached != null) {
+                hits++;
+                return copyOf(cached);
+            }
+            misses++;
+            readGeneration = generation;
+        }
+        Project project = delegate.getProjectById(projectId);
+        if (project != null) {
+            synchronized (this) {
+                if (generation == readGeneration) {
+                    byId.put(projectId, copyOf(project));
+                }
+            }
+        }
+        return project;
+    }
+
+    @Override
+    public Project getProjectById(int projectId, boolean includeArchived) throws SQLException {
+        Project project = getProjectById(projectId);
+        return project != null || !includeArchived ? project : delegate.getProjectById(projectId, true);
+    }
+
+    // Cached projects are answered locally; the rest are fetched in one call and cached
+    @Override
+    public ProjectLookup getProjectsByIds(int[] projectIds) throws SQLException {
+        Map<Integer, Project> found = new HashMap<>(projectIds.length * 2);
+        int[] missing = new int[projectIds.length];
+        int missingCount = 0;
+        long readGeneration;
+        synchronized (this) {
+            for (int projectId : ProjectDAOImpl.distinctSorted(projectIds)) {
+                Project cached = byId.get(projectId);
+                if (cached != null) {
+                    hits++;
+                    found.put(projectId, copyOf(cached));
+                } else {
+                    misses++;
+                    missing[missingCount++] = projectId;
+                }
+            }
+            readGeneration = generation;
+        }
+        if (missingCount > 0) {
+            List<Project> fetched = delegate.getProjectsByIds(Arrays.copyOf(missing, missingCount)).getFound();
+            synchronized (this) {
+                for (Project project : fetched) {
+                    found.put(project.getProjectId(), project);
+                    if (generation == readGeneration) {
+                        byId.put(project.getProjectId(), copyOf(project));
+                    }
+                }
+            }
+        }
+        return ProjectLookup.of(projectIds, found);
+    }
+
+    // Titles of cached projects are answered locally; only the rest are fetched
+    @Override
+    public Map<Integer, String> getProjectTitles(int[] projectIds) throws SQLException {
+        Map<Integer, String> titles = new HashMap<>(projectIds.length * 2);
+        int[] missing = new int[projectIds.length];
+        int missingCount = 0;
+        synchronized (this) {
+            for (int projectId : projectIds) {
+                Project cached = byId.get(projectId);
+                if (cached != null) {
+                    hits++;
+                    titles.put(projectId, cached.getTitle());
+                } else {
+                    misses++;
+                    missing[missingCount++] = projectId;
+                }
+            }
+        }
+        if (missingCount > 0) {
+            titles.putAll(delegate.getProjectTitles(Arrays.copyOf(missing, missingCount)));
+        }
+        return titles;
+    }
+
+    @Override
+    public boolean updateProjectStatus(int projectId, ProjectStatus status) throws SQLException {
+        try {
+            return delegate.updateProjectStatus(projectId, status);
+        } finally {
+            invalidate(new int[]{projectId});
+        }
+    }
+
+    @Override
+    public int updateProjectStatuses(int[] projectIds, ProjectStatus status) throws SQLException {
+        try {
+            return delegate.updateProjectStatuses(projectIds, status);
+        } finally {
+            invalidate(projectIds);
+        }
+    }
+
+    @Override
+    public int transitionStatus(ProjectStatus fromStatus, ProjectStatus toStatus) throws SQLException {
+        try {
+            return delegate.transitionStatus(fromStatus, toStatus);
+        } finally {
+            synchronized (this) {
+                // Only cached projects in the old status can have changed
+                Iterator<Project> it = byId.values().iterator();
+                while (it.hasNext()) {
+                    if (it.next().getStatus() == fromStatus) {
+                        it.remove();
+                    }
+                }
+                dropListings();
+            }
+        }
+    }
+
+    @Override
+    public int applyScheduleDelta(int[] newlyScheduledIds, int[] droppedIds) throws SQLException {
+        try {
+            return delegate.applyScheduleDelta(newlyScheduledIds, droppedIds);
+        } finally {
+            invalidate(newlyScheduledIds);
+            invalidate(droppedIds);
+        }
+    }
+
+    @Override
+    public boolean clearAllProjects() throws SQLException {
+        try {
+            return delegate.clearAllProjects();
+        } finally {
+            invalidateAll();
+        }
+    }
+
+    // Never cached: it is how callers find out the data moved
+    @Override
+    public long getPendingSetVersion() throws SQLException {
+        return delegate.getPendingSetVersion();
+    }
+
+    public synchronized CacheStats getStats() {
+        return new CacheStats(byId.size(), maxProjects, allProjects != null, pendingProjects != null,
+                hits, misses, evictions, invalidations);
+    }
+
+    // Status changes touch both listings, so they are dropped along with the IDs
+    private synchronized void invalidate(int[] projectIds) {
+        for (int projectId : projectIds) {
+            byId.remove(projectId);
+        }
+        dropListings();
+    }
+
+    private void dropListings() {
+        generation++;
+        invalidations++;
+        allProjects = null;
+        pendingProjects = null;
+    }
+
+    private static List<Project> copyOf(List<Project> projects) {
+        List<Project> copies = new ArrayList<>(projects.size());
+        for (Project project : projects) {
+            copies.add(copyOf(project));
+        }
+        return copies;
+    }
+
+    private static Project copyOf(Project project) {
+        return new Project(project.getProjectId(), project.getTitle(), project.getDeadline(),
+                project.getRevenue(), project.getStatus(), project.getCreatedAt());
+    }
+
+//  Point-in-time snapshot of cache usage
+
+    public static class CacheStats {
+
+        private final int cachedProjects;
+        private final int maxProjects;
+        private final boolean allListingCached;
+        private final boolean pendingListingCached;
+        private final long hits;
+        private final long misses;
+        private final long evictions;
+        private final long invalidations;
+
+        private CacheStats(int cachedProjects, int maxProjects, boolean allListingCached,
+                           boolean pendingListingCached, long hits, long misses, long evictions,
+                           long invalidations) {
+            this.cachedProjects = cachedProjects;
+            this.maxProjects = maxProjects;
+            this.allListingCached = allListingCached;
+            this.pendingListingCached = pendingListingCached;
+            this.hits = hits;
+            this.misses = misses;
+            this.evictions = evictions;
+            this.invalidations = invalidations;
+        }
+
+        public int getCachedProjects() {
+            return cachedProjects;
+        }
+
+        public int getMaxProjects() {
+            return maxProjects;
+        }
+
+        public boolean isAllListingCached() {
+            return allListingCached;
+        }
+
+        public boolean isPendingListingCached() {
+            return pendingListingCached;
+        }
+
+        public long getHits() {
+            return hits;
+        }
+
+        public long getMisses() {
+            return misses;
+        }
+
+        public long getEvictions() {
+            return evictions;
+        }
+
+        public long getInvalidations() {
+            return invalidations;
+        }
+
+        public double getHitRatio() {
+            long lookups = hits + misses;
+            return lookups == 0 ? 0 : (double) hits / lookups;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Cache [projects=%d/%d, allListing=%s, pendingListing=%s, hits=%d, misses=%d, "
+                            + "hitRatio=%.2f, evictions=%d, invalidations=%d]",
+                    cachedProjects, maxProjects, allListingCached, pendingListingCached, hits, misses,
+                    getHitRatio(), evictions, invalidations);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.promanage.dao;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+//  Minimal RFC 4180 reader: comma separated, fields optionally quoted with ",
+//  "" inside quotes for a literal quote, quoted fields may span lines.
+//  Accepts \n and \r\n line endings.
+
+final class CsvRecordReader {
+
+    private final Reader in;
+    private final StringBuilder field = new StringBuilder(64);
+    private int line = 1;
+    private int recordLine;
+    private int pending = -2; // one character of look-ahead; -2 = none
+
+    CsvRecordReader(Reader in) {
+        this.in = in;
+    }
+
+//  Next record, or null at end of input. Blank lines are skipped
+
+    List<String> next() throws IOException {
+        int c = read();
+        while (c == '\n' || c == '\r') {
+            c = read();
+        }
+        if (c == -1) {
+            return null;
+        }
+        recordLine = line;
+
+        List<String> fields = new ArrayList<>(8);
+        field.setLength(0);
+        boolean quoted = false;
+        boolean wasQuoted = false;
+
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    throw new IOException("Unterminated quoted field starting on line " + recordLine);
+                }
+                if (c == '"') {
+                    int after = read();
+                    if (after == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        c = after;
+                        continue;
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.length() == 0 && !wasQuoted) {
+                quoted = true;
+                wasQuoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+                wasQuoted = false;
+            } else if (c == '\n' || c == '\r' || c == -1) {
+                if (c == '\r') {
+                    int after = read();
+                    if (after != '\n') {
+                        pending = after;
+                    }
+                }
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append((char) c);
+            }
+            c = read();
+        }
+    }
+
+//  Line on which the last record returned by next() started (1-based)
+
+    int recordLine() {
+        return recordLine;
+    }
+
+    private int read() throws IOException {
+        int c;
+        if (pending != -2) {
+            c = pending;
+            pending = -2;
+        } else {
+            c = in.read();
+        }
+        if (c == '\n') {
+            line++;
+        }
+        return c;
+    }
+
+//  Append a value, quoting it only when it contains a comma, quote or line break.
+//  A lone \. is quoted too: unquoted, PostgreSQL's COPY reads it as end of data
+
+    static void appendField(StringBuilder target, String value) {
+        if (value == null) {
+            return;
+        }
+        boolean needsQuotes = value.equals("\\.");
+        for (int i = 0; i < value.length() && !needsQuotes; i++) {
+            char c = value.charAt(i);
+            needsQuotes = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!needsQuotes) {
+            target.append(value);
+            return;
+        }
+        target.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                target.append('"');
+            }
+            target.append(c);
+        }
+        target.append('"');
+    }
+}
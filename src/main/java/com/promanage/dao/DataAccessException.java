@@ -0,0 +1,20 @@
+package com.promanage.dao;
+
+import java.sql.SQLException;
+
+//  Unchecked wrapper for SQL errors raised while a streamed result is being consumed
+//  Stream and Iterator callbacks cannot throw SQLException, so it travels as the cause
+
+public class DataAccessException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public DataAccessException(String message, SQLException cause) {
+        super(message + ": " + cause.getMessage(), cause);
+    }
+
+    @Override
+    public synchronized SQLException getCause() {
+        return (SQLException) super.getCause();
+    }
+}
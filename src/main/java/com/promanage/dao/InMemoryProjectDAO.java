@@ -0,0 +1,329 @@
+package com.promanage.dao;
+
+import com.promanage.model.BulkInsertResult;
+import com.promanage.model.Project;
+import com.promanage.model.ProjectCandidate;
+import com.promanage.model.ProjectLookup;
+import com.promanage.model.ProjectStatus;
+import com.promanage.model.RevenueSummary;
+import com.promanage.model.SchedulingCandidates;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+//  ProjectDAO kept entirely in memory
+//  Same contract as ProjectDAOImpl (ordering, pruning, status transitions) so the
+//  scheduling path can be exercised and benchmarked without a database. Projects
+//  are copied on the way in and out; callers never share instances with the store.
+//
+//  Indexed like the table it stands in for:
+//  - projects: primary key, project ID -> row
+//  - idsByStatus: one ID set per status (idx on status)
+//  - pendingByPriority: pending projects in scheduling order (revenue DESC,
+//    project_id), like idx_projects_pending_revenue, so pending reads come back
+//    sorted without sorting
+//  - sequence: hands out IDs like project_id_seq; never reused, not reset by
+//    clearAllProjects
+//
+//  Reads take no lock. Writes are serialized and never modify a stored row in
+//  place, they replace it, so a reader sees each row either before or after a
+//  write. A read running alongside a write may see a row under its old and new
+//  status at once; pending reads re-check the stored row and skip it then.
+
+public class InMemoryProjectDAO implements ProjectDAO {
+
+    private final Map<Integer, Project> projects = new ConcurrentHashMap<>();
+    private final Map<ProjectStatus, ConcurrentSkipListSet<Integer>> idsByStatus = new EnumMap<>(ProjectStatus.class);
+    private final ConcurrentSkipListSet<ProjectCandidate> pendingByPriority =
+            new ConcurrentSkipListSet<>(ProjectCandidate::compareByPriority);
+    private final AtomicInteger sequence = new AtomicInteger();
+    private final AtomicLong version = new AtomicLong();
+
+    public InMemoryProjectDAO() {
+        for (ProjectStatus status : ProjectStatus.values()) {
+            idsByStatus.put(status, new ConcurrentSkipListSet<>());
+        }
+    }
+
+    @Override
+    public synchronized boolean addProject(Project project) {
+        insert(project);
+        version.incrementAndGet();
+        return true;
+    }
+
+    @Override
+    public synchronized BulkInsertResult addProjects(Collection<Project> projects, int chunkSize) {
+        long started = System.nanoTime();
+        Project[] rows = ProjectDAOImpl.requireValid(projects, chunkSize);
+        for (Project project : rows) {
+            insert(project);
+        }
+        version.incrementAndGet();
+        int chunks = (rows.length + chunkSize - 1) / chunkSize;
+        return new BulkInsertResult(rows.length, rows.length, chunks, List.of(), System.nanoTime() - started);
+    }
+
+    @Override
+    public List<Project> getAllProjects() {
+        List<Project> all = new ArrayList<>(projects.size());
+        for (Project project : projects.values()) {
+            all.add(copyOf(project));
+        }
+        all.sort(Comparator.comparingInt(Project::getProjectId));
+        return all;
+    }
+
+    @Override
+    public List<Project> getAllProjects(boolean includeArchived) {
+        return getAllProjects();
+    }
+
+    @Override
+    public List<Project> getPendingProjects() {
+        List<Project> pending = new ArrayList<>();
+        for (ProjectCandidate candidate : pendingByPriority) {
+            Project project = projects.get(candidate.projectId());
+            if (project != null && project.getStatus() == ProjectStatus.PENDING) {
+                pending.add(copyOf(project));
+            }
+        }
+        return pending;
+    }
+
+    @Override
+    public Stream<Project> streamAllProjects() {
+        return getAllProjects().stream();
+    }
+
+    @Override
+    public Stream<Project> streamPendingProjects() {
+        return getPendingProjects().stream();
+    }
+
+    @Override
+    public Stream<ProjectCandidate> streamPendingCandidates() {
+        return pendingCandidates().stream();
+    }
+
+    @Override
+    public Stream<ProjectCandidate> streamPendingCandidatesUnordered() {
+        return pendingCandidates().stream();
+    }
+
+    @Override
+    public Stream<ProjectCandidate> streamCandidatesByStatus(ProjectStatus status) {
+        if (status == ProjectStatus.PENDING) {
+            return pendingCandidates().stream();
+        }
+        List<ProjectCandidate> candidates = new ArrayList<>();
+        for (int projectId : idsByStatus.get(status)) {
+            Project project = projects.get(projectId);
+            if (project != null && project.getStatus() == status) {
+                candidates.add(ProjectCandidate.of(project));
+            }
+        }
+        return candidates.stream();
+    }
+
+    // Same pruning as the row_number() query: within each horizon-clamped deadline
+    // bucket only the best dayCapacity * min(deadline, horizon) projects survive
+    @Override
+    public SchedulingCandidates getSchedulingCandidates(int horizonDays, int dayCapacity) {
+        Map<Integer, Integer> bucketRanks = new HashMap<>();
+        List<ProjectCandidate> candidates = new ArrayList<>();
+        long prunedCount = 0;
+        long prunedRevenueCents = 0;
+        for (ProjectCandidate candidate : pendingCandidates()) {
+            int bucket = Math.min(candidate.deadline(), horizonDays);
+            int rank = bucketRanks.merge(bucket, 1, Integer::sum);
+            if (rank <= (long) bucket * dayCapacity) {
+                candidates.add(candidate);
+            } else {
+                prunedCount++;
+                prunedRevenueCents += candidate.revenueCents();
+            }
+        }
+        return new SchedulingCandidates(candidates,
+                new RevenueSummary(prunedCount, BigDecimal.valueOf(prunedRevenueCents, 2)));
+    }
+
+    @Override
+    public Project getProjectById(int projectId) {
+        Project project = projects.get(projectId);
+        return (project != null) ? copyOf(project) : null;
+    }
+
+    // Nothing is ever archived in memory, so the hot data is everything
+    @Override
+    public Project getProjectById(int projectId, boolean includeArchived) {
+        return getProjectById(projectId);
+    }
+
+    @Override
+    public ProjectLookup getProjectsByIds(int[] projectIds) {
+        Map<Integer, Project> found = new HashMap<>(projectIds.length * 2);
+        for (int projectId : projectIds) {
+            Project project = projects.get(projectId);
+            if (project != null && !found.containsKey(projectId)) {
+                found.put(projectId, copyOf(project));
+            }
+        }
+        return ProjectLookup.of(projectIds, found);
+    }
+
+    @Override
+    public Map<Integer, String> getProjectTitles(int[] projectIds) {
+        Map<Integer, String> titles = new HashMap<>(projectIds.length * 2);
+        for (int projectId : projectIds) {
+            Project project = projects.get(projectId);
+            if (project != null) {
+                titles.put(projectId, project.getTitle());
+            }
+        }
+        return titles;
+    }
+
+    @Override
+    public synchronized boolean updateProjectStatus(int projectId, ProjectStatus status) {
+        Project project = projects.get(projectId);
+        if (project == null) {
+            return false;
+        }
+        changeStatus(project, status);
+        version.incrementAndGet();
+        return true;
+    }
+
+    @Override
+    public synchronized int updateProjectStatuses(int[] projectIds, ProjectStatus status) {
+        int updated = 0;
+        for (int projectId : projectIds) {
+            Project project = projects.get(projectId);
+            if (project != null) {
+                changeStatus(project, status);
+                updated++;
+            }
+        }
+        version.incrementAndGet();
+        return updated;
+    }
+
+    @Override
+    public synchronized int transitionStatus(ProjectStatus fromStatus, ProjectStatus toStatus) {
+        // Copy first: changeStatus removes from the set being walked
+        List<Integer> projectIds = new ArrayList<>(idsByStatus.get(fromStatus));
+        for (int projectId : projectIds) {
+            changeStatus(projects.get(projectId), toStatus);
+        }
+        version.incrementAndGet();
+        return projectIds.size();
+    }
+
+    @Override
+    public synchronized int applyScheduleDelta(int[] newlyScheduledIds, int[] droppedIds) {
+        int changed = transition(droppedIds, ProjectStatus.SCHEDULED, ProjectStatus.PENDING)
+                + transition(newlyScheduledIds, ProjectStatus.PENDING, ProjectStatus.SCHEDULED);
+        version.incrementAndGet();
+        return changed;
+    }
+
+    @Override
+    public synchronized boolean clearAllProjects() {
+        projects.clear();
+        for (ConcurrentSkipListSet<Integer> projectIds : idsByStatus.values()) {
+            projectIds.clear();
+        }
+        pendingByPriority.clear();
+        version.incrementAndGet();
+        return true;
+    }
+
+    // Bumped after every write has been applied, so data read after the version
+    // is at least that new. More often than the projects triggers, which skip
+    // statements that touch no PENDING row; a spare bump only costs a recompute
+    @Override
+    public long getPendingSetVersion() {
+        return version.get();
+    }
+
+    public int size() {
+        return projects.size();
+    }
+
+    // Caller holds the lock
+    private void insert(Project project) {
+        int projectId = sequence.incrementAndGet();
+        project.setProjectId(projectId);
+        if (project.getCreatedAt() == null) {
+            project.setCreatedAt(LocalDateTime.now());
+        }
+        Project row = copyOf(project);
+        projects.put(projectId, row);
+        idsByStatus.get(row.getStatus()).add(projectId);
+        if (row.getStatus() == ProjectStatus.PENDING) {
+            pendingByPriority.add(ProjectCandidate.of(row));
+        }
+    }
+
+    // Caller holds the lock. The new row is published before the indexes move,
+    // so an index entry never points at a row that does not exist
+    private void changeStatus(Project current, ProjectStatus status) {
+        ProjectStatus previous = current.getStatus();
+        if (previous == status) {
+            return;
+        }
+        Project updated = copyOf(current);
+        updated.setStatus(status);
+        projects.put(updated.getProjectId(), updated);
+
+        idsByStatus.get(status).add(updated.getProjectId());
+        idsByStatus.get(previous).remove(updated.getProjectId());
+        if (status == ProjectStatus.PENDING) {
+            pendingByPriority.add(ProjectCandidate.of(updated));
+        } else if (previous == ProjectStatus.PENDING) {
+            pendingByPriority.remove(ProjectCandidate.of(current));
+        }
+    }
+
+    private int transition(int[] projectIds, ProjectStatus fromStatus, ProjectStatus toStatus) {
+        int changed = 0;
+        for (int projectId : projectIds) {
+            Project project = projects.get(projectId);
+            if (project != null && project.getStatus() == fromStatus) {
+                changeStatus(project, toStatus);
+                changed++;
+            }
+        }
+        return changed;
+    }
+
+    // Already in scheduling order; entries whose row has since left PENDING are skipped
+    private List<ProjectCandidate> pendingCandidates() {
+        List<ProjectCandidate> candidates = new ArrayList<>(pendingByPriority.size());
+        for (ProjectCandidate candidate : pendingByPriority) {
+            Project project = projects.get(candidate.projectId());
+            if (project != null && project.getStatus() == ProjectStatus.PENDING) {
+                candidates.add(candidate);
+            }
+        }
+        return candidates;
+    }
+
+    private static Project copyOf(Project project) {
+        return new Project(project.getProjectId(), project.getTitle(), project.getDeadline(),
+                project.getRevenue(), project.getStatus(), project.getCreatedAt());
+    }
+}
@@ -0,0 +1,80 @@
+package com.promanage.dao;
+
+import com.promanage.utils.DatabaseConnection;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+//  Verifies with EXPLAIN that the scheduler's pending read is planned as an
+//  index-only scan on idx_projects_pending_revenue.
+//  Sequential and bitmap scans are disabled for the check (transaction-local),
+//  because on small tables the planner rightly prefers a sequential scan;
+//  pass --planner-choice to see the plan PostgreSQL would pick on its own.
+public class IndexUsageCheck {
+
+    static final String EXPECTED_INDEX = "idx_projects_pending_revenue";
+
+    public static void main(String[] args) {
+        boolean plannerChoice = args.length > 0 && "--planner-choice".equals(args[0]);
+
+        System.out.println("=== Checking Pending Scan Plan ===\n");
+        System.out.println(ProjectDAOImpl.PENDING_SCHEDULING_SCAN_SQL + "\n");
+
+        try {
+            List<String> plan = explain(ProjectDAOImpl.PENDING_SCHEDULING_SCAN_SQL, !plannerChoice);
+            for (String line : plan) {
+                System.out.println("  " + line);
+            }
+
+            if (usesIndexOnlyScan(plan)) {
+                System.out.println("\n✓ Pending scan is an index-only scan on " + EXPECTED_INDEX);
+            } else {
+                System.err.println("\n✗ Pending scan does not use an index-only scan on " + EXPECTED_INDEX);
+                System.err.println("  Run migrations/002_status_smallint_and_pending_index.sql and VACUUM ANALYZE projects");
+                System.exit(1);
+            }
+
+        } catch (SQLException e) {
+            System.err.println("✗ Check failed: " + e.getMessage());
+            System.exit(1);
+        } finally {
+            DatabaseConnection.closeConnection();
+        }
+    }
+
+    static List<String> explain(String sql, boolean disableScansWithoutIndex) throws SQLException {
+        List<String> plan = new ArrayList<>();
+
+        try (Connection conn = DatabaseConnection.getConnection()) {
+            conn.setAutoCommit(false);
+            try (Statement stmt = conn.createStatement()) {
+                if (disableScansWithoutIndex) {
+                    stmt.execute("SET LOCAL enable_seqscan = off");
+                    stmt.execute("SET LOCAL enable_bitmapscan = off");
+                }
+                try (ResultSet rs = stmt.executeQuery("EXPLAIN " + sql)) {
+                    while (rs.next()) {
+                        plan.add(rs.getString(1));
+                    }
+                }
+            } finally {
+                conn.rollback();
+            }
+        }
+
+        return plan;
+    }
+
+    static boolean usesIndexOnlyScan(List<String> plan) {
+        for (String line : plan) {
+            if (line.contains("Index Only Scan using " + EXPECTED_INDEX)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
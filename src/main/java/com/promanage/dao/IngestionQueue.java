@@ -0,0 +1,351 @@
+package com.promanage.dao;
+
+import com.promanage.model.BulkInsertResult;
+import com.promanage.model.Project;
+import com.promanage.utils.AppConfig;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+//  Group-commit front-end for concurrent single-project inserts
+//  Any number of producers submit projects; one writer thread drains them into
+//  ProjectDAO.addProjects batches, so many submissions share one transaction
+//  (and one WAL flush) instead of paying an autocommit each.
+//
+//  - A batch is written once it holds batchSize projects, or flushIntervalMs
+//    after its first project was submitted, whichever comes first
+//  - At most capacity projects wait at once; submit() then blocks up to
+//    offerTimeoutMs for room (0 = fail at once) and otherwise fails the future
+//    with RejectedExecutionException
+//  - Each future completes with the project's generated ID once its batch has
+//    committed; the submitted Project has its ID set by then as well
+//  - If a batch fails, its projects are retried one at a time so a single bad
+//    row does not fail the others
+//  - close() stops accepting projects and writes everything already queued
+
+public class IngestionQueue implements AutoCloseable {
+
+    private final ProjectDAO projectDAO;
+    private final int capacity;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final long offerTimeoutMs;
+
+    // Lock-free multi-producer queue; only the writer thread polls it
+    private final ConcurrentLinkedQueue<Submission> queue = new ConcurrentLinkedQueue<>();
+    private final Semaphore room;
+    private final AtomicInteger depth = new AtomicInteger();
+    private final Thread writer;
+    private volatile boolean closed;
+
+    private final AtomicLong submittedCount = new AtomicLong();
+    private final AtomicLong committedCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private final AtomicLong rejectedCount = new AtomicLong();
+    private final AtomicLong batchCount = new AtomicLong();
+    private final AtomicLong commitNanosTotal = new AtomicLong();
+    private final AtomicLong commitNanosMax = new AtomicLong();
+
+    public IngestionQueue(ProjectDAO projectDAO, int capacity, int batchSize,
+                          long flushIntervalMs, long offerTimeoutMs) {
+        if (capacity <= 0 || batchSize <= 0) {
+            throw new IllegalArgumentException("Capacity and batch size must be positive");
+        }
+        if (flushIntervalMs < 0 || offerTimeoutMs < 0) {
+            throw new IllegalArgumentException("Flush interval and offer timeout must not be negative");
+        }
+        this.projectDAO = projectDAO;
+        this.capacity = capacity;
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+        this.offerTimeoutMs = offerTimeoutMs;
+        this.room = new Semaphore(capacity);
+
+        this.writer = new Thread(this::runWriter, "promanage-ingest-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+//  Queue configured from promanage.properties (ingest.*)
+
+    public static IngestionQueue fromConfig(ProjectDAO projectDAO) {
+        return new IngestionQueue(projectDAO,
+                AppConfig.getInt(AppConfig.INGEST_CAPACITY, 10_000),
+                AppConfig.getInt(AppConfig.INGEST_BATCH_SIZE, 500),
+                AppConfig.getLong(AppConfig.INGEST_FLUSH_INTERVAL_MS, 5),
+                AppConfig.getLong(AppConfig.INGEST_OFFER_TIMEOUT_MS, 1_000));
+    }
+
+//  Queue a project for insertion
+//  Invalid projects and submissions after close() fail right away; a full
+//  queue fails the future once offerTimeoutMs has passed
+
+    public CompletableFuture<Integer> submit(Project project) {
+        if (project == null || !project.isValid()) {
+            return CompletableFuture.failedFuture(new IllegalArgumentException("Invalid project: " + project));
+        }
+        if (closed) {
+            return CompletableFuture.failedFuture(new IllegalStateException("Ingestion queue is closed"));
+        }
+
+        try {
+            if (!room.tryAcquire(offerTimeoutMs, TimeUnit.MILLISECONDS)) {
+                rejectedCount.incrementAndGet();
+                return CompletableFuture.failedFuture(new RejectedExecutionException(
+                        "Ingestion queue full (" + capacity + " projects) for " + offerTimeoutMs + " ms"));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return CompletableFuture.failedFuture(e);
+        }
+
+        Submission submission = new Submission(project);
+        queue.offer(submission);
+        submittedCount.incrementAndGet();
+        int queued = depth.incrementAndGet();
+        // Wake the writer when it may be idle (queue was empty) or a batch is full
+        if (queued == 1 || queued == batchSize) {
+            LockSupport.unpark(writer);
+        }
+        // The writer may have exited between the closed check above and the offer
+        if (closed && !writer.isAlive() && queue.remove(submission)) {
+            release(1);
+            fail(submission, new IllegalStateException("Ingestion queue is closed"));
+        }
+        return submission.future;
+    }
+
+    public int getQueueDepth() {
+        return Math.max(0, depth.get());
+    }
+
+    public Stats getStats() {
+        long batches = batchCount.get();
+        return new Stats(getQueueDepth(), capacity, submittedCount.get(), committedCount.get(),
+                failedCount.get(), rejectedCount.get(), batches,
+                batches == 0 ? 0 : commitNanosTotal.get() / batches, commitNanosMax.get());
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+//  Stop accepting projects and wait for the queued ones to be written
+
+    @Override
+    public void close() {
+        closed = true;
+        LockSupport.unpark(writer);
+        boolean interrupted = false;
+        while (writer.isAlive()) {
+            try {
+                writer.join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        // Submissions that raced with the writer's exit
+        Submission leftover;
+        while ((leftover = queue.poll()) != null) {
+            release(1);
+            fail(leftover, new IllegalStateException("Ingestion queue is closed"));
+        }
+    }
+
+    private void runWriter() {
+        List<Submission> batch = new ArrayList<>(batchSize);
+        while (true) {
+            Submission first = queue.poll();
+            if (first == null) {
+                if (closed) {
+                    return;
+                }
+                // Producers unpark on the empty -> non-empty transition; the
+                // timeout only guards against a missed wake-up
+                LockSupport.parkNanos(this, TimeUnit.SECONDS.toNanos(1));
+                continue;
+            }
+            batch.add(first);
+            release(1);
+
+            long flushAt = first.submittedAt + flushIntervalNanos;
+            while (batch.size() < batchSize) {
+                Submission next = queue.poll();
+                if (next != null) {
+                    batch.add(next);
+                    release(1);
+                    continue;
+                }
+                long wait = flushAt - System.nanoTime();
+                if (wait <= 0 || closed) {
+                    break;
+                }
+                LockSupport.parkNanos(this, wait);
+            }
+
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    private void release(int count) {
+        depth.addAndGet(-count);
+        room.release(count);
+    }
+
+    private void write(List<Submission> batch) {
+        List<Project> projects = new ArrayList<>(batch.size());
+        for (Submission submission : batch) {
+            projects.add(submission.project);
+        }
+
+        long start = System.nanoTime();
+        Exception batchError;
+        try {
+            BulkInsertResult result = projectDAO.addProjects(projects, batch.size());
+            recordCommit(start);
+            if (result.isComplete()) {
+                for (Submission submission : batch) {
+                    committedCount.incrementAndGet();
+                    submission.future.complete(submission.project.getProjectId());
+                }
+                return;
+            }
+            batchError = new SQLException(result.getFailures().isEmpty()
+                    ? result.toString() : result.getFailures().get(0).message());
+        } catch (SQLException | RuntimeException e) {
+            recordCommit(start);
+            batchError = e;
+        }
+
+        if (batch.size() == 1) {
+            fail(batch.get(0), batchError);
+            return;
+        }
+
+        // The whole batch was rolled back; isolate the row(s) at fault
+        for (Submission submission : batch) {
+            try {
+                if (projectDAO.addProject(submission.project)) {
+                    committedCount.incrementAndGet();
+                    submission.future.complete(submission.project.getProjectId());
+                } else {
+                    fail(submission, new SQLException("Project was not inserted"));
+                }
+            } catch (SQLException | RuntimeException e) {
+                fail(submission, e);
+            }
+        }
+    }
+
+    private void fail(Submission submission, Exception cause) {
+        failedCount.incrementAndGet();
+        submission.future.completeExceptionally(cause);
+    }
+
+    private void recordCommit(long startNanos) {
+        long nanos = System.nanoTime() - startNanos;
+        batchCount.incrementAndGet();
+        commitNanosTotal.addAndGet(nanos);
+        commitNanosMax.accumulateAndGet(nanos, Math::max);
+    }
+
+    private static final class Submission {
+
+        private final Project project;
+        private final long submittedAt = System.nanoTime();
+        private final CompletableFuture<Integer> future = new CompletableFuture<>();
+
+        private Submission(Project project) {
+            this.project = project;
+        }
+    }
+
+//  Snapshot of the queue's counters
+
+    public static final class Stats {
+
+        private final int queueDepth;
+        private final int capacity;
+        private final long submitted;
+        private final long committed;
+        private final long failed;
+        private final long rejected;
+        private final long batches;
+        private final long averageCommitNanos;
+        private final long maxCommitNanos;
+
+        private Stats(int queueDepth, int capacity, long submitted, long committed, long failed,
+                      long rejected, long batches, long averageCommitNanos, long maxCommitNanos) {
+            this.queueDepth = queueDepth;
+            this.capacity = capacity;
+            this.submitted = submitted;
+            this.committed = committed;
+            this.failed = failed;
+            this.rejected = rejected;
+            this.batches = batches;
+            this.averageCommitNanos = averageCommitNanos;
+            this.maxCommitNanos = maxCommitNanos;
+        }
+
+        public int getQueueDepth() {
+            return queueDepth;
+        }
+
+        public int getCapacity() {
+            return capacity;
+        }
+
+        public long getSubmitted() {
+            return submitted;
+        }
+
+        public long getCommitted() {
+            return committed;
+        }
+
+        public long getFailed() {
+            return failed;
+        }
+
+        public long getRejected() {
+            return rejected;
+        }
+
+        public long getBatches() {
+            return batches;
+        }
+
+        public double getAverageBatchSize() {
+            return batches == 0 ? 0 : (double) (committed + failed) / batches;
+        }
+
+        public double getAverageCommitMillis() {
+            return averageCommitNanos / 1_000_000.0;
+        }
+
+        public double getMaxCommitMillis() {
+            return maxCommitNanos / 1_000_000.0;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Ingest [depth=%d/%d, submitted=%d, committed=%d, failed=%d, rejected=%d,"
+                            + " batches=%d, avgBatch=%.1f, commitMs avg=%.2f max=%.2f]",
+                    queueDepth, capacity, submitted, committed, failed, rejected, batches,
+                    getAverageBatchSize(), getAverageCommitMillis(), getMaxCommitMillis());
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.promanage.dao;
+
+import com.promanage.utils.AppConfig;
+import com.promanage.utils.DatabaseConnection;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+
+//  Moves COMPLETED projects out of the hot projects table into projects_archive
+//  Projects completed more than retentionDays ago are moved batchSize rows at a
+//  time, each batch in its own short transaction (DELETE ... RETURNING feeding an
+//  INSERT), so a run can be stopped at any point and the next one resumes where
+//  it left off. Rows locked by another transaction are skipped (SKIP LOCKED)
+//  rather than waited for. Only COMPLETED rows are moved, which the
+//  projects_version triggers ignore, so a batch neither invalidates memoized
+//  schedules nor takes the counter row lock that scheduling writes queue on.
+//  Archived rows leave projects behind any CachingProjectDAO's back: callers
+//  that cache must call CachingProjectDAO.invalidateAll() after a run, as
+//  MainApplication (menu option 12) does.
+//
+//  Usage: ProjectArchiver [--retention-days=90] [--batch-size=1000] [--max-batches=0]
+//  (0 = until nothing is left to archive)
+
+public class ProjectArchiver {
+
+    private static final String ARCHIVE_BATCH_SQL =
+            "WITH moved AS ("
+                    + " DELETE FROM projects WHERE project_id IN ("
+                    + "   SELECT project_id FROM projects"
+                    + "   WHERE status = 2 AND completed_at < LOCALTIMESTAMP - make_interval(days => ?)"
+                    + "   ORDER BY completed_at, project_id LIMIT ? FOR UPDATE SKIP LOCKED)"
+                    + " RETURNING project_id, title, deadline, revenue, status, created_at, completed_at) "
+                    + "INSERT INTO projects_archive (project_id, title, deadline, revenue, status, created_at, completed_at) "
+                    + "SELECT * FROM moved";
+
+    private final int retentionDays;
+    private final int batchSize;
+    private final long pauseMs;
+
+//  @param pauseMs sleep between batches, to spread the I/O of a large backlog
+    public ProjectArchiver(int retentionDays, int batchSize, long pauseMs) {
+        if (retentionDays < 0 || batchSize <= 0 || pauseMs < 0) {
+            throw new IllegalArgumentException("Retention and pause must not be negative, batch size must be positive");
+        }
+        this.retentionDays = retentionDays;
+        this.batchSize = batchSize;
+        this.pauseMs = pauseMs;
+    }
+
+//  Archiver configured from promanage.properties (archive.*)
+
+    public static ProjectArchiver fromConfig() {
+        return new ProjectArchiver(
+                AppConfig.getInt(AppConfig.ARCHIVE_RETENTION_DAYS, 90),
+                AppConfig.getInt(AppConfig.ARCHIVE_BATCH_SIZE, 1000),
+                AppConfig.getLong(AppConfig.ARCHIVE_PAUSE_MS, 0));
+    }
+
+//  Archive up to maxBatches batches (0 = until a batch comes back short)
+
+    public Result archiveCompleted(int maxBatches) throws SQLException {
+        long started = System.nanoTime();
+        int batches = 0;
+        long archived = 0;
+        boolean drained = false;
+
+        try (Connection conn = DatabaseConnection.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(ARCHIVE_BATCH_SQL)) {
+
+            conn.setAutoCommit(false);
+            try {
+                while (maxBatches <= 0 || batches < maxBatches) {
+                    pstmt.setInt(1, retentionDays);
+                    pstmt.setInt(2, batchSize);
+                    int moved = pstmt.executeUpdate();
+                    conn.commit();
+                    batches++;
+                    archived += moved;
+
+                    // A short batch means nothing (unlocked) is left; skipped rows wait for the next run
+                    if (moved < batchSize) {
+                        drained = true;
+                        break;
+                    }
+                    if (pauseMs > 0) {
+                        Thread.sleep(pauseMs);
+                    }
+                }
+            } catch (InterruptedException e) {
+                // Every finished batch is committed; stop here and let the next run resume
+                Thread.currentThread().interrupt();
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
+            }
+
+        } catch (SQLException e) {
+            System.err.println("Error archiving completed projects: " + e.getMessage());
+            throw e;
+        }
+
+        return new Result(batches, archived, drained, System.nanoTime() - started);
+    }
+
+    public record Result(int batches, long archived, boolean drained, long elapsedNanos) {
+
+        @Override
+        public String toString() {
+            return String.format("Archived %,d projects in %d batches (%.2f s)%s",
+                    archived, batches, elapsedNanos / 1_000_000_000.0, drained ? "" : ", more remain");
+        }
+    }
+
+    public static void main(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (!arg.startsWith("--") || eq < 0) {
+                throw new IllegalArgumentException("Unexpected argument: " + arg);
+            }
+            options.put(arg.substring(2, eq), arg.substring(eq + 1));
+        }
+        int retentionDays = Integer.parseInt(options.getOrDefault("retention-days",
+                String.valueOf(AppConfig.getInt(AppConfig.ARCHIVE_RETENTION_DAYS, 90))));
+        int batchSize = Integer.parseInt(options.getOrDefault("batch-size",
+                String.valueOf(AppConfig.getInt(AppConfig.ARCHIVE_BATCH_SIZE, 1000))));
+        int maxBatches = Integer.parseInt(options.getOrDefault("max-batches", "0"));
+
+        try {
+            ProjectArchiver archiver = new ProjectArchiver(retentionDays, batchSize,
+                    AppConfig.getLong(AppConfig.ARCHIVE_PAUSE_MS, 0));
+            System.out.println("✓ " + archiver.archiveCompleted(maxBatches));
+        } catch (SQLException e) {
+            System.err.println("✗ Archiving failed: " + e.getMessage());
+            System.exit(1);
+        } finally {
+            DatabaseConnection.closeConnection();
+        }
+    }
+}
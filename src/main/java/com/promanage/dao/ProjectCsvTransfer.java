@@ -0,0 +1,293 @@
+package com.promanage.dao;
+
+import com.promanage.model.CsvTransferResult;
+import com.promanage.model.Project;
+import com.promanage.model.ProjectStatus;
+import com.promanage.utils.AppConfig;
+import com.promanage.utils.DatabaseConnection;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+//  CSV import and export of projects through PostgreSQL COPY
+//  Imports need a header row naming the title, deadline and revenue columns
+//  (status is optional, other columns such as project_id are ignored), so an
+//  export can be imported again. Every row is validated like Project.isValid()
+//  plus the table's column limits before it reaches COPY; rows that fail are
+//  left out and listed in the rejected-rows report, the rest load in one COPY.
+
+public class ProjectCsvTransfer {
+
+    private static final String COPY_IN_SQL =
+            "COPY projects (title, deadline, revenue, status) FROM STDIN WITH (FORMAT csv)";
+
+    private static final String COPY_OUT_SQL =
+            "COPY (SELECT project_id, title, deadline, revenue, " + statusNameSql() + " AS status, created_at"
+                    + " FROM projects ORDER BY project_id) TO STDOUT WITH (FORMAT csv, HEADER)";
+
+    // Limits of the projects columns (see schema.sql)
+    private static final int MAX_TITLE_LENGTH = 200;
+    private static final int REVENUE_PRECISION = 10;
+    private static final int REVENUE_SCALE = 2;
+
+    private static final int CHUNK_CHARS = 64 * 1024;
+    private static final int REJECTED_SAMPLE_SIZE = 20;
+
+    private final int maxDeadline;
+
+    public ProjectCsvTransfer() {
+        this(AppConfig.getHorizonDays());
+    }
+
+//  @param maxDeadline the largest deadline accepted, as in chk_deadline
+    public ProjectCsvTransfer(int maxDeadline) {
+        this.maxDeadline = maxDeadline;
+    }
+
+//  Import a CSV file; rejected rows go to rejectsReport, which is removed again
+//  when nothing was rejected
+
+    public CsvTransferResult importCsv(Path source, Path rejectsReport) throws SQLException, IOException {
+        CsvTransferResult result;
+        try (Reader in = Files.newBufferedReader(source, StandardCharsets.UTF_8);
+             Writer rejects = Files.newBufferedWriter(rejectsReport, StandardCharsets.UTF_8)) {
+            result = importCsv(in, rejects);
+        }
+        if (result.getRejectedCount() == 0) {
+            Files.deleteIfExists(rejectsReport);
+        }
+        return result;
+    }
+
+//  Stream CSV into projects with COPY FROM STDIN
+//  @param rejects receives a CSV report of rejected rows (line, reason, original
+//  fields); may be null
+//  @throws IllegalArgumentException if the header lacks a required column
+
+    public CsvTransferResult importCsv(Reader source, Writer rejects) throws SQLException, IOException {
+        long started = System.nanoTime();
+        CsvRecordReader reader = new CsvRecordReader(
+                source instanceof BufferedReader ? source : new BufferedReader(source));
+
+        List<String> header = reader.next();
+        if (header == null) {
+            return new CsvTransferResult(0, 0, 0, List.of(), System.nanoTime() - started);
+        }
+        Columns columns = Columns.locate(header);
+        if (rejects != null) {
+            rejects.write(rejectedLine("line", "reason", header));
+        }
+
+        List<CsvTransferResult.RejectedRow> sample = new ArrayList<>();
+        int rowsRead = 0;
+        int rejected = 0;
+        long copied;
+
+        try (Connection conn = DatabaseConnection.getConnection()) {
+            CopyIn copyIn = conn.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_IN_SQL);
+            try {
+                StringBuilder chunk = new StringBuilder(CHUNK_CHARS + 1024);
+                List<String> record;
+                while ((record = reader.next()) != null) {
+                    rowsRead++;
+                    String reason = appendValidRow(record, columns, chunk);
+                    if (reason != null) {
+                        rejected++;
+                        if (sample.size() < REJECTED_SAMPLE_SIZE) {
+                            sample.add(new CsvTransferResult.RejectedRow(reader.recordLine(), reason));
+                        }
+                        if (rejects != null) {
+                            rejects.write(rejectedLine(String.valueOf(reader.recordLine()), reason, record));
+                        }
+                    } else if (chunk.length() >= CHUNK_CHARS) {
+                        writeChunk(copyIn, chunk);
+                    }
+                }
+                writeChunk(copyIn, chunk);
+                copied = copyIn.endCopy();
+            } finally {
+                if (copyIn.isActive()) {
+                    copyIn.cancelCopy();
+                }
+            }
+        } catch (SQLException e) {
+            System.err.println("Error importing projects: " + e.getMessage());
+            throw e;
+        }
+
+        return new CsvTransferResult(rowsRead, copied, rejected, sample, System.nanoTime() - started);
+    }
+
+    public CsvTransferResult exportCsv(Path target) throws SQLException, IOException {
+        try (Writer out = Files.newBufferedWriter(target, StandardCharsets.UTF_8)) {
+            return exportCsv(out);
+        }
+    }
+
+//  Write every project, with a header row, through COPY TO STDOUT.
+//  Status is written by name; created_at in PostgreSQL's timestamp format
+
+    public CsvTransferResult exportCsv(Writer target) throws SQLException, IOException {
+        long started = System.nanoTime();
+        try (Connection conn = DatabaseConnection.getConnection()) {
+            long rows = conn.unwrap(PGConnection.class).getCopyAPI().copyOut(COPY_OUT_SQL, target);
+            return new CsvTransferResult(rows, rows, 0, List.of(), System.nanoTime() - started);
+        } catch (SQLException e) {
+            System.err.println("Error exporting projects: " + e.getMessage());
+            throw e;
+        }
+    }
+
+//  Validate one record and append it to the COPY chunk in canonical form
+//  @return null if the row was appended, otherwise why it was rejected
+
+    private String appendValidRow(List<String> record, Columns columns, StringBuilder chunk) {
+        if (record.size() < columns.width) {
+            return "expected at least " + columns.width + " columns, found " + record.size();
+        }
+
+        String title = record.get(columns.title).trim();
+        int deadline;
+        BigDecimal revenue;
+        ProjectStatus status = ProjectStatus.PENDING;
+        try {
+            deadline = Integer.parseInt(record.get(columns.deadline).trim());
+        } catch (NumberFormatException e) {
+            return "deadline is not a whole number: '" + record.get(columns.deadline) + "'";
+        }
+        try {
+            revenue = new BigDecimal(record.get(columns.revenue).trim());
+        } catch (NumberFormatException e) {
+            return "revenue is not a number: '" + record.get(columns.revenue) + "'";
+        }
+        if (columns.status >= 0 && !record.get(columns.status).isBlank()) {
+            status = parseStatus(record.get(columns.status).trim());
+            if (status == null) {
+                return "unknown status: '" + record.get(columns.status) + "'";
+            }
+        }
+
+        Project project = new Project(title, deadline, revenue);
+        if (!project.isValid(maxDeadline)) {
+            if (title.isEmpty()) {
+                return "title is empty";
+            }
+            if (deadline <= 0 || deadline > maxDeadline) {
+                return "deadline must be between 1 and " + maxDeadline + ": " + deadline;
+            }
+            return "revenue must be positive: " + revenue.toPlainString();
+        }
+        if (title.length() > MAX_TITLE_LENGTH) {
+            return "title is longer than " + MAX_TITLE_LENGTH + " characters";
+        }
+        if (title.indexOf('\0') >= 0) {
+            return "title contains a NUL character";
+        }
+        // DECIMAL(10, 2) rounds to paise, which can turn a tiny amount into 0
+        BigDecimal stored = revenue.setScale(REVENUE_SCALE, RoundingMode.HALF_UP);
+        if (stored.signum() <= 0) {
+            return "revenue rounds to zero: " + revenue.toPlainString();
+        }
+        if (stored.precision() > REVENUE_PRECISION) {
+            return "revenue exceeds DECIMAL(10, 2): " + revenue.toPlainString();
+        }
+
+        CsvRecordReader.appendField(chunk, title);
+        chunk.append(',').append(deadline)
+                .append(',').append(stored.toPlainString())
+                .append(',').append(status.getCode()).append('\n');
+        return null;
+    }
+
+    private static ProjectStatus parseStatus(String value) {
+        try {
+            return ProjectStatus.valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            // not a name, try the numeric code
+        }
+        try {
+            return ProjectStatus.fromCode(Integer.parseInt(value));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static void writeChunk(CopyIn copyIn, StringBuilder chunk) throws SQLException {
+        if (chunk.length() == 0) {
+            return;
+        }
+        byte[] bytes = chunk.toString().getBytes(StandardCharsets.UTF_8);
+        copyIn.writeToCopy(bytes, 0, bytes.length);
+        chunk.setLength(0);
+    }
+
+    private static String rejectedLine(String line, String reason, List<String> fields) {
+        StringBuilder out = new StringBuilder(64);
+        out.append(line).append(',');
+        CsvRecordReader.appendField(out, reason);
+        for (String field : fields) {
+            out.append(',');
+            CsvRecordReader.appendField(out, field);
+        }
+        return out.append('\n').toString();
+    }
+
+    private static String statusNameSql() {
+        StringBuilder sql = new StringBuilder("CASE status");
+        for (ProjectStatus status : ProjectStatus.values()) {
+            sql.append(" WHEN ").append(status.getCode()).append(" THEN '").append(status.name()).append('\'');
+        }
+        return sql.append(" END").toString();
+    }
+
+//  Positions of the columns the import reads, found by header name
+
+    private static final class Columns {
+
+        private final int title;
+        private final int deadline;
+        private final int revenue;
+        private final int status;
+        private final int width;
+
+        private Columns(int title, int deadline, int revenue, int status) {
+            this.title = title;
+            this.deadline = deadline;
+            this.revenue = revenue;
+            this.status = status;
+            this.width = Math.max(Math.max(title, deadline), Math.max(revenue, status)) + 1;
+        }
+
+        static Columns locate(List<String> header) {
+            List<String> names = new ArrayList<>(header.size());
+            for (String name : header) {
+                // Files saved by spreadsheet tools may start with a byte order mark
+                names.add(name.replace("\uFEFF", "").trim().toLowerCase(Locale.ROOT));
+            }
+            return new Columns(required(names, "title"), required(names, "deadline"),
+                    required(names, "revenue"), names.indexOf("status"));
+        }
+
+        private static int required(List<String> names, String name) {
+            int index = names.indexOf(name);
+            if (index < 0) {
+                throw new IllegalArgumentException("CSV header has no '" + name + "' column: " + names);
+            }
+            return index;
+        }
+    }
+}
@@ -1,8 +1,17 @@
 package com.promanage.dao;
 
+import com.promanage.model.BulkInsertResult;
 import com.promanage.model.Project;
+import com.promanage.model.ProjectCandidate;
+import com.promanage.model.ProjectLookup;
+import com.promanage.model.ProjectStatus;
+import com.promanage.model.SchedulingCandidates;
+import com.promanage.utils.AppConfig;
 import java.sql.SQLException;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 
 
 public interface ProjectDAO {
@@ -10,14 +19,76 @@ public interface ProjectDAO {
 
     boolean addProject(Project project) throws SQLException;
 
+    // Inserts the projects in chunks of chunkSize rows, each chunk in its own
+    // transaction. Every project is validated before anything is written (an
+    // invalid one throws IllegalArgumentException); projects in committed chunks
+    // get their generated IDs, in input order, and failed chunks are reported in
+    // the result instead of aborting the remaining ones
+    BulkInsertResult addProjects(Collection<Project> projects, int chunkSize) throws SQLException;
+
+    // Same, with the chunk size taken from db.insertChunkSize
+    default BulkInsertResult addProjects(Collection<Project> projects) throws SQLException {
+        return addProjects(projects, AppConfig.getInt(AppConfig.DB_INSERT_CHUNK_SIZE, 1000));
+    }
+
     List<Project> getAllProjects() throws SQLException;
 
+    // With includeArchived, projects moved to projects_archive are listed too
+    // (by project ID, hot and archived interleaved)
+    List<Project> getAllProjects(boolean includeArchived) throws SQLException;
+
     List<Project> getPendingProjects() throws SQLException;
 
+    // Streamed variants read rows incrementally through a server-side cursor.
+    // The stream holds a pooled connection until it is closed, so always use
+    // try-with-resources. SQL errors during iteration surface as DataAccessException.
+    Stream<Project> streamAllProjects() throws SQLException;
+
+    Stream<Project> streamPendingProjects() throws SQLException;
+
+    // Scheduling projections of pending projects: only id, deadline and revenue
+    // are read, ordered by revenue DESC, project_id
+    Stream<ProjectCandidate> streamPendingCandidates() throws SQLException;
+
+    // Same projections in no particular order, sparing the database the sort
+    Stream<ProjectCandidate> streamPendingCandidatesUnordered() throws SQLException;
+
+    // Projections of every project in the given status, in no particular order
+    Stream<ProjectCandidate> streamCandidatesByStatus(ProjectStatus status) throws SQLException;
+
+    // Only the pending projects that can still be scheduled: for each deadline d
+    // at most dayCapacity * min(d, horizonDays) projects can ever fit, so the rest
+    // are pruned in the database and returned as a count/revenue summary
+    SchedulingCandidates getSchedulingCandidates(int horizonDays, int dayCapacity) throws SQLException;
+
     Project getProjectById(int projectId) throws SQLException;
 
-    boolean updateProjectStatus(int projectId, String status) throws SQLException;
+    // With includeArchived, falls back to projects_archive when the ID is not hot
+    Project getProjectById(int projectId, boolean includeArchived) throws SQLException;
+
+    // Many projects in one round trip (per chunk of IDs), in request order;
+    // IDs that do not exist are flagged in the result instead of failing
+    ProjectLookup getProjectsByIds(int[] projectIds) throws SQLException;
+
+    // Titles keyed by project ID; IDs that do not exist are left out
+    Map<Integer, String> getProjectTitles(int[] projectIds) throws SQLException;
+
+    boolean updateProjectStatus(int projectId, ProjectStatus status) throws SQLException;
+
+    int updateProjectStatuses(int[] projectIds, ProjectStatus status) throws SQLException;
+
+    int transitionStatus(ProjectStatus fromStatus, ProjectStatus toStatus) throws SQLException;
+
+    // Applies a schedule change in one transaction: PENDING -> SCHEDULED for the
+    // newly scheduled IDs and SCHEDULED -> PENDING for the dropped ones. Rows not
+    // in the expected status are left alone; returns the number of rows changed
+    int applyScheduleDelta(int[] newlyScheduledIds, int[] droppedIds) throws SQLException;
 
     boolean clearAllProjects() throws SQLException;
 
+    // Counter that moves whenever a write may have changed the pending set
+    // (projects_version, maintained by a trigger); equal values mean the
+    // pending set is unchanged
+    long getPendingSetVersion() throws SQLException;
+
 }
\ No newline at end of file
@@ -1,16 +1,94 @@
 package com.promanage.dao;
 
+import com.promanage.model.BulkInsertResult;
 import com.promanage.model.Project;
+import com.promanage.model.ProjectCandidate;
+import com.promanage.model.ProjectLookup;
+import com.promanage.model.ProjectStatus;
+import com.promanage.model.RevenueSummary;
+import com.promanage.model.SchedulingCandidates;
+import com.promanage.utils.AppConfig;
 import com.promanage.utils.DatabaseConnection;
+import org.postgresql.PGConnection;
 
 import java.math.BigDecimal;
 import java.sql.*;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public class ProjectDAOImpl implements ProjectDAO {
 
+    private static final String ALL_PROJECTS_SQL = "SELECT * FROM projects ORDER BY project_id";
+
+    // Hot and archived rows share these columns; archived projects keep their IDs
+    private static final String PROJECT_COLUMNS = "project_id, title, deadline, revenue, status, created_at";
+    private static final String ALL_PROJECTS_WITH_ARCHIVE_SQL =
+            "SELECT " + PROJECT_COLUMNS + " FROM projects UNION ALL "
+                    + "SELECT " + PROJECT_COLUMNS + " FROM projects_archive ORDER BY project_id";
+    private static final String PROJECT_BY_ID_WITH_ARCHIVE_SQL =
+            "SELECT " + PROJECT_COLUMNS + " FROM projects WHERE project_id = ? UNION ALL "
+                    + "SELECT " + PROJECT_COLUMNS + " FROM projects_archive WHERE project_id = ? LIMIT 1";
+    // The pending code is inlined rather than bound so the planner can match
+    // the partial index idx_projects_pending_revenue (WHERE status = 0)
+    private static final String PENDING = "status = " + ProjectStatus.PENDING.getCode();
+
+    private static final String PENDING_PROJECTS_SQL =
+            "SELECT * FROM projects WHERE " + PENDING + " ORDER BY revenue DESC, project_id";
+
+    // Revenue travels as whole paise so rows map to ProjectCandidate without BigDecimal
+    private static final String CANDIDATE_COLUMNS = "project_id, deadline, (revenue * 100)::bigint AS revenue_cents";
+
+    // The columns the scheduler needs, all covered by idx_projects_pending_revenue,
+    // so PostgreSQL can answer it with an index-only scan (see IndexUsageCheck)
+    static final String PENDING_SCHEDULING_SCAN_SQL =
+            "SELECT " + CANDIDATE_COLUMNS + " FROM projects WHERE " + PENDING
+                    + " ORDER BY revenue DESC, project_id";
+    private static final String PENDING_CANDIDATES_UNORDERED_SQL =
+            "SELECT " + CANDIDATE_COLUMNS + " FROM projects WHERE " + PENDING;
+
+    private static final String PROJECT_TITLES_SQL =
+            "SELECT project_id, title FROM projects WHERE project_id = ANY(?)";
+    private static final String PROJECTS_BY_IDS_SQL = "SELECT * FROM projects WHERE project_id = ANY(?)";
+
+    // ID lookups bind one int4[] per statement; longer ID lists are split so no
+    // single statement or result grows without bound
+    static final int MAX_IDS_PER_QUERY = 10_000;
+
+    // Ranks pending projects within their (horizon-clamped) deadline bucket.
+    // Parameters: horizonDays, horizonDays, dayCapacity
+    private static final String RANKED_PENDING_CTE =
+            "WITH ranked AS ("
+                    + " SELECT project_id, deadline, revenue, row_number() OVER ("
+                    + "   PARTITION BY LEAST(deadline, ?) ORDER BY revenue DESC, project_id) AS bucket_rank"
+                    + " FROM projects WHERE " + PENDING + ") ";
+    private static final String CANDIDATES_SQL = RANKED_PENDING_CTE
+            + "SELECT " + CANDIDATE_COLUMNS + " FROM ranked WHERE bucket_rank <= LEAST(deadline, ?) * ? "
+            + "ORDER BY revenue DESC, project_id";
+    private static final String PRUNED_SUMMARY_SQL = RANKED_PENDING_CTE
+            + "SELECT COUNT(*), COALESCE(SUM(revenue), 0) FROM ranked "
+            + "WHERE bucket_rank > LEAST(deadline, ?) * ?";
+
+    private final int fetchSize;
+
+    public ProjectDAOImpl() {
+        this(AppConfig.getInt(AppConfig.DB_FETCH_SIZE, 1000));
+    }
+
+//  @param fetchSize rows fetched per round trip by the streaming queries
+    public ProjectDAOImpl(int fetchSize) {
+        this.fetchSize = fetchSize;
+    }
+
     @Override
     public boolean addProject(Project project) throws SQLException {
 
@@ -22,7 +100,7 @@ public class ProjectDAOImpl implements ProjectDAO {
             pstmt.setString(1, project.getTitle());
             pstmt.setInt(2, project.getDeadline());
             pstmt.setBigDecimal(3, project.getRevenue());
-            pstmt.setString(4, project.getStatus());
+            pstmt.setShort(4, project.getStatus().getCode());
 
             int rowsAffected = pstmt.executeUpdate();
 
@@ -43,11 +121,111 @@ public class ProjectDAOImpl implements ProjectDAO {
         }
     }
 
+    @Override
+    public BulkInsertResult addProjects(Collection<Project> projects, int chunkSize) throws SQLException {
+
+        Project[] rows = requireValid(projects, chunkSize);
+        // IDs are reserved from the sequence up front so the INSERT batch needs no
+        // RETURNING clause, which would stop pgjdbc from rewriting it into
+        // multi-row INSERTs (reWriteBatchedInserts)
+        String reserveSql = "SELECT nextval('project_id_seq') FROM generate_series(1, ?)";
+        String insertSql = "INSERT INTO projects (project_id, title, deadline, revenue, status) VALUES (?, ?, ?, ?, ?)";
+
+        long started = System.nanoTime();
+        List<BulkInsertResult.ChunkFailure> failures = new ArrayList<>();
+        int inserted = 0;
+        int chunks = 0;
+
+        try (Connection conn = DatabaseConnection.getConnection()) {
+            conn.setAutoCommit(false);
+            try (PreparedStatement reserve = conn.prepareStatement(reserveSql);
+                 PreparedStatement insert = conn.prepareStatement(insertSql)) {
+
+                for (int from = 0; from < rows.length; from += chunkSize, chunks++) {
+                    int to = Math.min(from + chunkSize, rows.length);
+                    try {
+                        int[] ids = reserveIds(reserve, to - from);
+                        for (int i = from; i < to; i++) {
+                            Project project = rows[i];
+                            insert.setInt(1, ids[i - from]);
+                            insert.setString(2, project.getTitle());
+                            insert.setInt(3, project.getDeadline());
+                            insert.setBigDecimal(4, project.getRevenue());
+                            insert.setShort(5, project.getStatus().getCode());
+                            insert.addBatch();
+                        }
+                        insert.executeBatch();
+                        conn.commit();
+
+                        // Only committed rows get their IDs
+                        for (int i = from; i < to; i++) {
+                            rows[i].setProjectId(ids[i - from]);
+                        }
+                        inserted += to - from;
+
+                    } catch (SQLException e) {
+                        conn.rollback();
+                        insert.clearBatch();
+                        failures.add(new BulkInsertResult.ChunkFailure(chunks, from, to - from, rootMessage(e)));
+                    }
+                }
+            } finally {
+                conn.setAutoCommit(true);
+            }
+
+        } catch (SQLException e) {
+            System.err.println("Error adding projects: " + e.getMessage());
+            throw e;
+        }
+
+        for (BulkInsertResult.ChunkFailure failure : failures) {
+            System.err.println("Error adding projects, " + failure);
+        }
+        return new BulkInsertResult(rows.length, inserted, chunks, failures, System.nanoTime() - started);
+    }
+
+    private static int[] reserveIds(PreparedStatement reserve, int count) throws SQLException {
+        int[] ids = new int[count];
+        reserve.setInt(1, count);
+        try (ResultSet rs = reserve.executeQuery()) {
+            for (int i = 0; i < count && rs.next(); i++) {
+                ids[i] = rs.getInt(1);
+            }
+        }
+        return ids;
+    }
+
+    // BatchUpdateException wraps the statement that actually failed
+    private static String rootMessage(SQLException e) {
+        SQLException next = e.getNextException();
+        return next != null ? next.getMessage() : e.getMessage();
+    }
+
+    // Checks the whole input before any row is written and returns it as an
+    // array in iteration order. Shared with InMemoryProjectDAO
+    static Project[] requireValid(Collection<Project> projects, int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive: " + chunkSize);
+        }
+        Project[] rows = projects.toArray(new Project[0]);
+        List<Integer> invalid = new ArrayList<>();
+        for (int i = 0; i < rows.length; i++) {
+            if (rows[i] == null || !rows[i].isValid()) {
+                invalid.add(i);
+            }
+        }
+        if (!invalid.isEmpty()) {
+            throw new IllegalArgumentException(invalid.size() + " invalid project(s) at index "
+                    + (invalid.size() > 10 ? invalid.subList(0, 10) + "..." : invalid));
+        }
+        return rows;
+    }
+
     @Override
     public List<Project> getAllProjects() throws SQLException {
 
         List<Project> projects = new ArrayList<>();
-        String sql = "SELECT * FROM projects ORDER BY project_id";
+        String sql = ALL_PROJECTS_SQL;
 
         try (Connection conn = DatabaseConnection.getConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql);
@@ -65,11 +243,36 @@ public class ProjectDAOImpl implements ProjectDAO {
         return projects;
     }
 
+    @Override
+    public List<Project> getAllProjects(boolean includeArchived) throws SQLException {
+
+        if (!includeArchived) {
+            return getAllProjects();
+        }
+
+        List<Project> projects = new ArrayList<>();
+
+        try (Connection conn = DatabaseConnection.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(ALL_PROJECTS_WITH_ARCHIVE_SQL);
+             ResultSet rs = pstmt.executeQuery()) {
+
+            while (rs.next()) {
+                projects.add(extractProjectFromResultSet(rs));
+            }
+
+        } catch (SQLException e) {
+            System.err.println("Error retrieving all projects with archive: " + e.getMessage());
+            throw e;
+        }
+
+        return projects;
+    }
+
     @Override
     public List<Project> getPendingProjects() throws SQLException {
 
         List<Project> projects = new ArrayList<>();
-        String sql = "SELECT * FROM projects WHERE status = 'PENDING' ORDER BY revenue DESC";
+        String sql = PENDING_PROJECTS_SQL;
 
         try (Connection conn = DatabaseConnection.getConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql);
@@ -87,6 +290,93 @@ public class ProjectDAOImpl implements ProjectDAO {
         return projects;
     }
 
+    @Override
+    public Stream<Project> streamAllProjects() throws SQLException {
+        return streamQuery(ALL_PROJECTS_SQL, ProjectDAOImpl::extractProjectFromResultSet,
+                "Error streaming all projects");
+    }
+
+    @Override
+    public Stream<Project> streamPendingProjects() throws SQLException {
+        return streamQuery(PENDING_PROJECTS_SQL, ProjectDAOImpl::extractProjectFromResultSet,
+                "Error streaming pending projects");
+    }
+
+    @Override
+    public Stream<ProjectCandidate> streamPendingCandidates() throws SQLException {
+        return streamQuery(PENDING_SCHEDULING_SCAN_SQL, ProjectDAOImpl::extractCandidate,
+                "Error streaming pending candidates");
+    }
+
+    @Override
+    public Stream<ProjectCandidate> streamPendingCandidatesUnordered() throws SQLException {
+        return streamQuery(PENDING_CANDIDATES_UNORDERED_SQL, ProjectDAOImpl::extractCandidate,
+                "Error streaming pending candidates");
+    }
+
+    @Override
+    public Stream<ProjectCandidate> streamCandidatesByStatus(ProjectStatus status) throws SQLException {
+        // The status code is a constant from the enum, inlined like PENDING above
+        return streamQuery("SELECT " + CANDIDATE_COLUMNS + " FROM projects WHERE status = " + status.getCode(),
+                ProjectDAOImpl::extractCandidate, "Error streaming candidates");
+    }
+
+    @Override
+    public SchedulingCandidates getSchedulingCandidates(int horizonDays, int dayCapacity) throws SQLException {
+
+        try (Connection conn = DatabaseConnection.getConnection()) {
+
+            // Both queries must see the same snapshot for the lost revenue to add up
+            conn.setAutoCommit(false);
+            conn.setTransactionIsolation(Connection.TRANSACTION_REPEATABLE_READ);
+            conn.setReadOnly(true);
+
+            try {
+                List<ProjectCandidate> candidates = new ArrayList<>();
+                try (PreparedStatement pstmt = conn.prepareStatement(CANDIDATES_SQL)) {
+                    bindBucketParameters(pstmt, horizonDays, dayCapacity);
+                    pstmt.setFetchSize(fetchSize);
+                    try (ResultSet rs = pstmt.executeQuery()) {
+                        while (rs.next()) {
+                            candidates.add(extractCandidate(rs));
+                        }
+                    }
+                }
+
+                RevenueSummary pruned = RevenueSummary.EMPTY;
+                try (PreparedStatement pstmt = conn.prepareStatement(PRUNED_SUMMARY_SQL)) {
+                    bindBucketParameters(pstmt, horizonDays, dayCapacity);
+                    try (ResultSet rs = pstmt.executeQuery()) {
+                        if (rs.next()) {
+                            pruned = new RevenueSummary(rs.getLong(1), rs.getBigDecimal(2));
+                        }
+                    }
+                }
+
+                conn.commit();
+                return new SchedulingCandidates(candidates, pruned);
+
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setReadOnly(false);
+                conn.setTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+            }
+
+        } catch (SQLException e) {
+            System.err.println("Error retrieving scheduling candidates: " + e.getMessage());
+            throw e;
+        }
+    }
+
+    private void bindBucketParameters(PreparedStatement pstmt, int horizonDays, int dayCapacity)
+            throws SQLException {
+        pstmt.setInt(1, horizonDays);
+        pstmt.setInt(2, horizonDays);
+        pstmt.setInt(3, dayCapacity);
+    }
+
     @Override
     public Project getProjectById(int projectId) throws SQLException {
 
@@ -112,14 +402,115 @@ public class ProjectDAOImpl implements ProjectDAO {
     }
 
     @Override
-    public boolean updateProjectStatus(int projectId, String status) throws SQLException {
+    public Project getProjectById(int projectId, boolean includeArchived) throws SQLException {
+
+        if (!includeArchived) {
+            return getProjectById(projectId);
+        }
+
+        try (Connection conn = DatabaseConnection.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(PROJECT_BY_ID_WITH_ARCHIVE_SQL)) {
+
+            pstmt.setInt(1, projectId);
+            pstmt.setInt(2, projectId);
+
+            try (ResultSet rs = pstmt.executeQuery()) {
+                if (rs.next()) {
+                    return extractProjectFromResultSet(rs);
+                }
+            }
+
+        } catch (SQLException e) {
+            System.err.println("Error retrieving project by ID with archive: " + e.getMessage());
+            throw e;
+        }
+
+        return null;
+    }
+
+    @Override
+    public ProjectLookup getProjectsByIds(int[] projectIds) throws SQLException {
+
+        Map<Integer, Project> found = new HashMap<>(projectIds.length * 2);
+
+        try {
+            queryByIds(PROJECTS_BY_IDS_SQL, projectIds, rs -> {
+                Project project = extractProjectFromResultSet(rs);
+                found.put(project.getProjectId(), project);
+            });
+        } catch (SQLException e) {
+            System.err.println("Error retrieving projects by ID: " + e.getMessage());
+            throw e;
+        }
+
+        return ProjectLookup.of(projectIds, found);
+    }
+
+    @Override
+    public Map<Integer, String> getProjectTitles(int[] projectIds) throws SQLException {
+
+        Map<Integer, String> titles = new HashMap<>(projectIds.length * 2);
+
+        try {
+            queryByIds(PROJECT_TITLES_SQL, projectIds, rs -> titles.put(rs.getInt(1), rs.getString(2)));
+        } catch (SQLException e) {
+            System.err.println("Error retrieving project titles: " + e.getMessage());
+            throw e;
+        }
+
+        return titles;
+    }
+
+    // Runs sql (one = ANY(?) parameter) for the distinct IDs, in ascending
+    // chunks of MAX_IDS_PER_QUERY over a single connection
+    private void queryByIds(String sql, int[] projectIds, RowHandler handler) throws SQLException {
+        int[] distinct = distinctSorted(projectIds);
+        if (distinct.length == 0) {
+            return;
+        }
+
+        try (Connection conn = DatabaseConnection.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+
+            for (int from = 0; from < distinct.length; from += MAX_IDS_PER_QUERY) {
+                int to = Math.min(from + MAX_IDS_PER_QUERY, distinct.length);
+                Array ids = createIntArray(conn, from == 0 && to == distinct.length
+                        ? distinct : Arrays.copyOfRange(distinct, from, to));
+                try {
+                    pstmt.setArray(1, ids);
+                    try (ResultSet rs = pstmt.executeQuery()) {
+                        while (rs.next()) {
+                            handler.handle(rs);
+                        }
+                    }
+                } finally {
+                    ids.free();
+                }
+            }
+        }
+    }
+
+    static int[] distinctSorted(int[] values) {
+        int[] sorted = values.clone();
+        Arrays.sort(sorted);
+        int n = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            if (i == 0 || sorted[i] != sorted[i - 1]) {
+                sorted[n++] = sorted[i];
+            }
+        }
+        return n == sorted.length ? sorted : Arrays.copyOf(sorted, n);
+    }
+
+    @Override
+    public boolean updateProjectStatus(int projectId, ProjectStatus status) throws SQLException {
 
         String sql = "UPDATE projects SET status = ? WHERE project_id = ?";
 
         try (Connection conn = DatabaseConnection.getConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
-            pstmt.setString(1, status);
+            pstmt.setShort(1, status.getCode());
             pstmt.setInt(2, projectId);
 
             int rowsAffected = pstmt.executeUpdate();
@@ -132,16 +523,116 @@ public class ProjectDAOImpl implements ProjectDAO {
     }
 
     @Override
-    public boolean clearAllProjects() throws SQLException {
+    public int updateProjectStatuses(int[] projectIds, ProjectStatus status) throws SQLException {
+
+        if (projectIds.length == 0) {
+            return 0;
+        }
 
-        String sql = "DELETE FROM projects";
+        // One statement for the whole set: a single round trip, applied atomically
+        String sql = "UPDATE projects SET status = ? WHERE project_id = ANY(?)";
 
         try (Connection conn = DatabaseConnection.getConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
-            int rowsAffected = pstmt.executeUpdate();
-            System.out.println(rowsAffected + " projects deleted.");
-            return true;
+            Array ids = createIntArray(conn, projectIds);
+            try {
+                pstmt.setShort(1, status.getCode());
+                pstmt.setArray(2, ids);
+                return pstmt.executeUpdate();
+            } finally {
+                ids.free();
+            }
+
+        } catch (SQLException e) {
+            System.err.println("Error updating project statuses: " + e.getMessage());
+            throw e;
+        }
+    }
+
+    @Override
+    public int transitionStatus(ProjectStatus fromStatus, ProjectStatus toStatus) throws SQLException {
+
+        String sql = "UPDATE projects SET status = ? WHERE status = ?";
+
+        try (Connection conn = DatabaseConnection.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+
+            pstmt.setShort(1, toStatus.getCode());
+            pstmt.setShort(2, fromStatus.getCode());
+
+            return pstmt.executeUpdate();
+
+        } catch (SQLException e) {
+            System.err.println("Error transitioning project status: " + e.getMessage());
+            throw e;
+        }
+    }
+
+    @Override
+    public int applyScheduleDelta(int[] newlyScheduledIds, int[] droppedIds) throws SQLException {
+
+        if (newlyScheduledIds.length == 0 && droppedIds.length == 0) {
+            return 0;
+        }
+
+        String sql = "UPDATE projects SET status = ? WHERE project_id = ANY(?) AND status = ?";
+
+        try (Connection conn = DatabaseConnection.getConnection()) {
+            conn.setAutoCommit(false);
+            try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                int changed = transition(pstmt, createIntArray(conn, droppedIds),
+                        ProjectStatus.SCHEDULED, ProjectStatus.PENDING);
+                changed += transition(pstmt, createIntArray(conn, newlyScheduledIds),
+                        ProjectStatus.PENDING, ProjectStatus.SCHEDULED);
+                conn.commit();
+                return changed;
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
+            }
+
+        } catch (SQLException e) {
+            System.err.println("Error applying schedule delta: " + e.getMessage());
+            throw e;
+        }
+    }
+
+    private static int transition(PreparedStatement pstmt, Array ids, ProjectStatus from, ProjectStatus to)
+            throws SQLException {
+        try {
+            pstmt.setShort(1, to.getCode());
+            pstmt.setArray(2, ids);
+            pstmt.setShort(3, from.getCode());
+            return pstmt.executeUpdate();
+        } finally {
+            ids.free();
+        }
+    }
+
+    @Override
+    public boolean clearAllProjects() throws SQLException {
+
+        // schedule no longer cascades from projects (history outlives archiving),
+        // so its rows are removed explicitly; archived projects are kept
+        try (Connection conn = DatabaseConnection.getConnection();
+             Statement stmt = conn.createStatement()) {
+
+            conn.setAutoCommit(false);
+            try {
+                stmt.executeUpdate("DELETE FROM schedule");
+                int rowsAffected = stmt.executeUpdate("DELETE FROM projects");
+                conn.commit();
+                System.out.println(rowsAffected + " projects deleted.");
+                return true;
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
+            }
 
         } catch (SQLException e) {
             System.err.println("Error clearing projects: " + e.getMessage());
@@ -149,13 +640,137 @@ public class ProjectDAOImpl implements ProjectDAO {
         }
     }
 
-    private Project extractProjectFromResultSet(ResultSet rs) throws SQLException {
+    @Override
+    public long getPendingSetVersion() throws SQLException {
+
+        String sql = "SELECT version FROM projects_version";
+
+        try (Connection conn = DatabaseConnection.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql);
+             ResultSet rs = pstmt.executeQuery()) {
+
+            if (!rs.next()) {
+                throw new SQLException("projects_version has no row; run migrations/003_projects_version.sql");
+            }
+            return rs.getLong(1);
+
+        } catch (SQLException e) {
+            System.err.println("Error reading pending set version: " + e.getMessage());
+            throw e;
+        }
+    }
+
+    // pgjdbc only uses a server-side cursor (fetching fetchSize rows per round
+    // trip) for forward-only statements run outside autocommit. The connection
+    // goes back to the pool, rolled back, when the stream is closed.
+    private <T> Stream<T> streamQuery(String sql, RowMapper<T> mapper, String errorMessage) throws SQLException {
+
+        Connection conn = DatabaseConnection.getConnection();
+        PreparedStatement pstmt = null;
+        ResultSet rs = null;
+
+        try {
+            conn.setAutoCommit(false);
+            pstmt = conn.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            pstmt.setFetchSize(fetchSize);
+            rs = pstmt.executeQuery();
+        } catch (SQLException e) {
+            System.err.println(errorMessage + ": " + e.getMessage());
+            closeQuietly(rs, pstmt, conn);
+            throw e;
+        }
+
+        ResultSetSpliterator<T> spliterator = new ResultSetSpliterator<>(rs, pstmt, conn, mapper, errorMessage);
+        return StreamSupport.stream(spliterator, false).onClose(spliterator::close);
+    }
+
+    private static void closeQuietly(AutoCloseable... resources) {
+        for (AutoCloseable resource : resources) {
+            if (resource != null) {
+                try {
+                    resource.close();
+                } catch (Exception e) {
+                    System.err.println("Error releasing database resource: " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface RowHandler {
+        void handle(ResultSet rs) throws SQLException;
+    }
+
+    @FunctionalInterface
+    private interface RowMapper<T> {
+        T map(ResultSet rs) throws SQLException;
+    }
+
+    // Maps one row per tryAdvance and releases everything once exhausted or closed
+    private static final class ResultSetSpliterator<T> extends Spliterators.AbstractSpliterator<T> {
+
+        private final ResultSet rs;
+        private final PreparedStatement pstmt;
+        private final Connection conn;
+        private final RowMapper<T> mapper;
+        private final String errorMessage;
+        private boolean closed;
+
+        private ResultSetSpliterator(ResultSet rs, PreparedStatement pstmt, Connection conn,
+                                     RowMapper<T> mapper, String errorMessage) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+            this.rs = rs;
+            this.pstmt = pstmt;
+            this.conn = conn;
+            this.mapper = mapper;
+            this.errorMessage = errorMessage;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (closed) {
+                return false;
+            }
+            try {
+                if (!rs.next()) {
+                    close();
+                    return false;
+                }
+                action.accept(mapper.map(rs));
+                return true;
+            } catch (SQLException e) {
+                System.err.println(errorMessage + ": " + e.getMessage());
+                close();
+                throw new DataAccessException(errorMessage, e);
+            }
+        }
+
+        private void close() {
+            if (!closed) {
+                closed = true;
+                closeQuietly(rs, pstmt, conn);
+            }
+        }
+    }
+
+    // pgjdbc binds primitive int[] directly as an int4[] parameter, without boxing
+    private Array createIntArray(Connection conn, int[] values) throws SQLException {
+        return conn.unwrap(PGConnection.class).createArrayOf("int4", values);
+    }
+
+    // Columns by position, matching CANDIDATE_COLUMNS
+    static ProjectCandidate extractCandidate(ResultSet rs) throws SQLException {
+        return new ProjectCandidate(rs.getInt(1), rs.getInt(2), rs.getLong(3));
+    }
+
+    // Package-private so the row-mapping benchmark can drive it with a synthetic ResultSet
+    static Project extractProjectFromResultSet(ResultSet rs) throws SQLException {
 
         int projectId = rs.getInt("project_id");
         String title = rs.getString("title");
         int deadline = rs.getInt("deadline");
         BigDecimal revenue = rs.getBigDecimal("revenue");
-        String status = rs.getString("status");
+        ProjectStatus status = ProjectStatus.fromCode(rs.getShort("status"));
         Timestamp timestamp = rs.getTimestamp("created_at");
 
         LocalDateTime createdAt =
@@ -0,0 +1,45 @@
+package com.promanage.dao;
+
+import com.promanage.model.ScheduleEntry;
+import com.promanage.model.ScheduleResult;
+
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.List;
+
+
+public interface ScheduleDAO {
+
+    // Both saves store the scheduled projects of a result planned from planStart
+    // (a Monday) in one transaction. Plan day d is stored in the week
+    // planStart + (d - 1) / 5 weeks as working day (d - 1) % 5 + 1 of that week,
+    // so horizons longer than five days reach into the following weeks.
+    // Both return the number of projects stored.
+
+    // Replaces the stored plan from planStart on with the result, for runs that
+    // re-plan every scheduled project (SchedulingService.reschedule). Idempotent:
+    // rows already stored with the same week, day and slot are kept, rows the
+    // result no longer contains are removed
+    int replaceSchedule(LocalDate planStart, ScheduleResult result) throws SQLException;
+
+    // Adds the result to what is stored, for runs that plan only the projects
+    // still pending (SchedulingService.generateSchedule). Rows of other projects
+    // are kept; a project of the result that is already stored from planStart on
+    // is moved. New rows take the slots after those already used on their day
+    int addToSchedule(LocalDate planStart, ScheduleResult result) throws SQLException;
+
+    // Ordered by day and slot
+    List<ScheduleEntry> getWeek(LocalDate weekStart) throws SQLException;
+
+    // Every week starting between from and to, both inclusive; ordered by week, day and slot
+    List<ScheduleEntry> getWeeks(LocalDate from, LocalDate to) throws SQLException;
+
+    // Every week the project was scheduled in, oldest first
+    List<ScheduleEntry> getProjectHistory(int projectId) throws SQLException;
+
+    int deleteWeek(LocalDate weekStart) throws SQLException;
+
+    // Drops the yearly partitions that lie entirely before the given date and
+    // returns how many were dropped; history is pruned without a DELETE
+    int dropHistoryBefore(LocalDate date) throws SQLException;
+}
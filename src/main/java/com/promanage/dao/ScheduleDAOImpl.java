@@ -0,0 +1,360 @@
+package com.promanage.dao;
+
+import com.promanage.model.ScheduleEntry;
+import com.promanage.model.ScheduleResult;
+import com.promanage.model.ScheduledProject;
+import com.promanage.utils.DatabaseConnection;
+import org.postgresql.PGConnection;
+
+import java.sql.*;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+//  ScheduleDAO over the partitioned schedule table (see schema.sql and
+//  migrations/004_partitioned_schedule.sql)
+//  Every query filters on week_start_date or project_id, so lookups go through
+//  pk_schedule / idx_schedule_project and only touch the partitions involved.
+//  Titles come from projects, or projects_archive once a project is archived.
+
+public class ScheduleDAOImpl implements ScheduleDAO {
+
+    private static final String ENTRY_SELECT =
+            "SELECT s.week_start_date, s.project_id, s.day_number, s.slot, s.day_name, s.scheduled_at,"
+                    + " COALESCE(p.title, a.title) AS title FROM schedule s"
+                    + " LEFT JOIN projects p ON p.project_id = s.project_id"
+                    + " LEFT JOIN projects_archive a ON a.project_id = s.project_id";
+
+    private static final String WEEK_SQL = ENTRY_SELECT
+            + " WHERE s.week_start_date = ? ORDER BY s.day_number, s.slot";
+    private static final String WEEKS_SQL = ENTRY_SELECT
+            + " WHERE s.week_start_date BETWEEN ? AND ? ORDER BY s.week_start_date, s.day_number, s.slot";
+    private static final String HISTORY_SQL = ENTRY_SELECT
+            + " WHERE s.project_id = ? ORDER BY s.week_start_date";
+
+    // Serializes saves, so concurrent runs never pick the same free slot
+    private static final String LOCK_SQL = "SELECT pg_advisory_xact_lock(hashtext('promanage.schedule'))";
+    // Removes the plan's rows the new schedule does not keep exactly in place,
+    // which also frees every (week, day, slot) the insert below is about to take
+    private static final String DELETE_STALE_SQL =
+            "DELETE FROM schedule WHERE week_start_date >= ?"
+                    + " AND (week_start_date, project_id, day_number, slot) NOT IN ("
+                    + "SELECT ?::date + 7 * w, p, d, s FROM unnest(?::int4[], ?::int4[], ?::int4[], ?::int4[])"
+                    + " AS t(w, p, d, s))";
+    // Frees the result's projects from the plan's weeks before they are stored again
+    private static final String DELETE_PROJECTS_SQL =
+            "DELETE FROM schedule WHERE week_start_date >= ? AND project_id = ANY(?::int4[])";
+    private static final String USED_SLOTS_SQL =
+            "SELECT week_start_date, day_number, max(slot) AS last_slot FROM schedule"
+                    + " WHERE week_start_date BETWEEN ? AND ? GROUP BY week_start_date, day_number";
+    // When replacing, rows that survived the delete are identical, so a conflict means nothing to write
+    private static final String INSERT_SQL =
+            "INSERT INTO schedule (week_start_date, project_id, day_number, slot, day_name)"
+                    + " VALUES (?, ?, ?, ?, ?) ON CONFLICT (week_start_date, project_id) DO NOTHING";
+
+    private static final Pattern PARTITION_NAME = Pattern.compile("schedule_y(\\d{4})");
+
+    // Years whose partition is known to exist, shared by all instances
+    private static final Set<Integer> knownPartitions = ConcurrentHashMap.newKeySet();
+
+    @Override
+    public int replaceSchedule(LocalDate planStart, ScheduleResult result) throws SQLException {
+        return save(planStart, result, true);
+    }
+
+    @Override
+    public int addToSchedule(LocalDate planStart, ScheduleResult result) throws SQLException {
+        return save(planStart, result, false);
+    }
+
+    private int save(LocalDate planStart, ScheduleResult result, boolean replace) throws SQLException {
+
+        requireMonday(planStart);
+        PlanRows rows = PlanRows.of(result);
+
+        try (Connection conn = DatabaseConnection.getConnection()) {
+            for (int year = planStart.getYear(); year <= rows.lastWeek(planStart).getYear(); year++) {
+                ensurePartition(conn, year);
+            }
+            conn.setAutoCommit(false);
+            try (Statement lock = conn.createStatement();
+                 PreparedStatement insert = conn.prepareStatement(INSERT_SQL)) {
+
+                lock.execute(LOCK_SQL);
+                if (replace) {
+                    deleteStale(conn, planStart, rows);
+                } else {
+                    deleteProjects(conn, planStart, rows);
+                    rows.moveAfterUsedSlots(conn, planStart);
+                }
+
+                for (int i = 0; i < rows.size; i++) {
+                    insert.setObject(1, planStart.plusWeeks(rows.weekOffsets[i]));
+                    insert.setInt(2, rows.projectIds[i]);
+                    insert.setInt(3, rows.dayNumbers[i]);
+                    insert.setInt(4, rows.slots[i]);
+                    insert.setString(5, ScheduledProject.dayNameFor(rows.dayNumbers[i]));
+                    insert.addBatch();
+                }
+                if (rows.size > 0) {
+                    insert.executeBatch();
+                }
+
+                conn.commit();
+                return rows.size;
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
+            }
+
+        } catch (SQLException e) {
+            System.err.println("Error saving schedule: " + e.getMessage());
+            throw e;
+        }
+    }
+
+    private static void deleteStale(Connection conn, LocalDate planStart, PlanRows rows) throws SQLException {
+        PGConnection pg = conn.unwrap(PGConnection.class);
+        Array weeks = pg.createArrayOf("int4", rows.weekOffsets);
+        Array ids = pg.createArrayOf("int4", rows.projectIds);
+        Array days = pg.createArrayOf("int4", rows.dayNumbers);
+        Array slots = pg.createArrayOf("int4", rows.slots);
+        try (PreparedStatement delete = conn.prepareStatement(DELETE_STALE_SQL)) {
+            delete.setObject(1, planStart);
+            delete.setObject(2, planStart);
+            delete.setArray(3, weeks);
+            delete.setArray(4, ids);
+            delete.setArray(5, days);
+            delete.setArray(6, slots);
+            delete.executeUpdate();
+        } finally {
+            weeks.free();
+            ids.free();
+            days.free();
+            slots.free();
+        }
+    }
+
+    private static void deleteProjects(Connection conn, LocalDate planStart, PlanRows rows) throws SQLException {
+        Array ids = conn.unwrap(PGConnection.class).createArrayOf("int4", rows.projectIds);
+        try (PreparedStatement delete = conn.prepareStatement(DELETE_PROJECTS_SQL)) {
+            delete.setObject(1, planStart);
+            delete.setArray(2, ids);
+            delete.executeUpdate();
+        } finally {
+            ids.free();
+        }
+    }
+
+    @Override
+    public List<ScheduleEntry> getWeek(LocalDate weekStart) throws SQLException {
+        return query(WEEK_SQL, "Error retrieving schedule week", weekStart);
+    }
+
+    @Override
+    public List<ScheduleEntry> getWeeks(LocalDate from, LocalDate to) throws SQLException {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("Range start " + from + " is after its end " + to);
+        }
+        return query(WEEKS_SQL, "Error retrieving schedule weeks", from, to);
+    }
+
+    @Override
+    public List<ScheduleEntry> getProjectHistory(int projectId) throws SQLException {
+        return query(HISTORY_SQL, "Error retrieving project schedule history", projectId);
+    }
+
+    @Override
+    public int deleteWeek(LocalDate weekStart) throws SQLException {
+
+        String sql = "DELETE FROM schedule WHERE week_start_date = ?";
+
+        try (Connection conn = DatabaseConnection.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+
+            pstmt.setObject(1, weekStart);
+            return pstmt.executeUpdate();
+
+        } catch (SQLException e) {
+            System.err.println("Error deleting schedule week: " + e.getMessage());
+            throw e;
+        }
+    }
+
+    @Override
+    public int dropHistoryBefore(LocalDate date) throws SQLException {
+
+        String sql = "SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid"
+                + " WHERE i.inhparent = 'schedule'::regclass";
+
+        List<Integer> years = new ArrayList<>();
+        try (Connection conn = DatabaseConnection.getConnection()) {
+            try (Statement stmt = conn.createStatement();
+                 ResultSet rs = stmt.executeQuery(sql)) {
+                while (rs.next()) {
+                    Matcher m = PARTITION_NAME.matcher(rs.getString(1));
+                    // A partition covers [year-01-01, year+1-01-01)
+                    if (m.matches() && !LocalDate.of(Integer.parseInt(m.group(1)) + 1, 1, 1).isAfter(date)) {
+                        years.add(Integer.parseInt(m.group(1)));
+                    }
+                }
+            }
+            try (Statement stmt = conn.createStatement()) {
+                for (int year : years) {
+                    stmt.execute(String.format("DROP TABLE schedule_y%04d", year));
+                    knownPartitions.remove(year);
+                }
+            }
+
+        } catch (SQLException e) {
+            System.err.println("Error dropping schedule history: " + e.getMessage());
+            throw e;
+        }
+
+        return years.size();
+    }
+
+    // Partitions are created on first use, outside the saving transaction
+    private static void ensurePartition(Connection conn, int year) throws SQLException {
+        if (knownPartitions.contains(year)) {
+            return;
+        }
+        String sql = String.format("CREATE TABLE IF NOT EXISTS schedule_y%04d PARTITION OF schedule"
+                + " FOR VALUES FROM ('%04d-01-01') TO ('%04d-01-01')", year, year, year + 1);
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute(sql);
+        } catch (SQLException e) {
+            // Another session created it at the same moment
+            if (!"42P07".equals(e.getSQLState()) && !"23505".equals(e.getSQLState())) {
+                throw e;
+            }
+        }
+        knownPartitions.add(year);
+    }
+
+    private static void requireMonday(LocalDate weekStart) {
+        if (weekStart.getDayOfWeek() != DayOfWeek.MONDAY) {
+            throw new IllegalArgumentException("Schedule weeks start on a Monday: " + weekStart);
+        }
+    }
+
+    private List<ScheduleEntry> query(String sql, String errorMessage, Object... parameters) throws SQLException {
+
+        List<ScheduleEntry> entries = new ArrayList<>();
+
+        try (Connection conn = DatabaseConnection.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+
+            for (int i = 0; i < parameters.length; i++) {
+                pstmt.setObject(i + 1, parameters[i]);
+            }
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    entries.add(extractEntry(rs));
+                }
+            }
+
+        } catch (SQLException e) {
+            System.err.println(errorMessage + ": " + e.getMessage());
+            throw e;
+        }
+
+        return entries;
+    }
+
+    private static ScheduleEntry extractEntry(ResultSet rs) throws SQLException {
+        Timestamp scheduledAt = rs.getTimestamp("scheduled_at");
+        return new ScheduleEntry(
+                rs.getDate("week_start_date").toLocalDate(),
+                rs.getInt("project_id"),
+                rs.getInt("day_number"),
+                rs.getInt("slot"),
+                rs.getString("day_name"),
+                scheduledAt != null ? scheduledAt.toLocalDateTime() : null,
+                rs.getString("title"));
+    }
+
+//  The scheduled projects of a result as (week, day within the week, slot) rows
+//  slot numbers the projects of one plan day in the order they were scheduled
+
+    private static final class PlanRows {
+
+        private final int size;
+        private final int[] weekOffsets;
+        private final int[] projectIds;
+        private final int[] dayNumbers;
+        private final int[] slots;
+
+        private PlanRows(int size) {
+            this.size = size;
+            this.weekOffsets = new int[size];
+            this.projectIds = new int[size];
+            this.dayNumbers = new int[size];
+            this.slots = new int[size];
+        }
+
+        static PlanRows of(ScheduleResult result) {
+            PlanRows rows = new PlanRows(result.getTotalScheduled());
+            int row = 0;
+            for (Map.Entry<Integer, List<ScheduledProject>> day : result.getScheduledProjectsByDay().entrySet()) {
+                int planDay = day.getKey() - 1;
+                int slot = 1;
+                for (ScheduledProject sp : day.getValue()) {
+                    rows.weekOffsets[row] = planDay / ScheduledProject.WORKING_DAYS_PER_WEEK;
+                    rows.dayNumbers[row] = planDay % ScheduledProject.WORKING_DAYS_PER_WEEK + 1;
+                    rows.projectIds[row] = sp.getProject().getProjectId();
+                    rows.slots[row] = slot++;
+                    row++;
+                }
+            }
+            return rows;
+        }
+
+        LocalDate lastWeek(LocalDate planStart) {
+            int last = 0;
+            for (int weekOffset : weekOffsets) {
+                last = Math.max(last, weekOffset);
+            }
+            return planStart.plusWeeks(last);
+        }
+
+        // Shifts every slot past the last one already stored on its day
+        void moveAfterUsedSlots(Connection conn, LocalDate planStart) throws SQLException {
+            if (size == 0) {
+                return;
+            }
+            Map<LocalDate, int[]> lastSlots = new HashMap<>();
+            try (PreparedStatement pstmt = conn.prepareStatement(USED_SLOTS_SQL)) {
+                pstmt.setObject(1, planStart);
+                pstmt.setObject(2, lastWeek(planStart));
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    while (rs.next()) {
+                        int day = rs.getInt("day_number");
+                        // Rows saved before plans were split into weeks may carry plan days above 5;
+                        // they cannot collide with the per-week days written now
+                        if (day <= ScheduledProject.WORKING_DAYS_PER_WEEK) {
+                            lastSlots.computeIfAbsent(rs.getDate("week_start_date").toLocalDate(),
+                                    week -> new int[ScheduledProject.WORKING_DAYS_PER_WEEK + 1])[day]
+                                    = rs.getInt("last_slot");
+                        }
+                    }
+                }
+            }
+            for (int i = 0; i < size; i++) {
+                int[] used = lastSlots.get(planStart.plusWeeks(weekOffsets[i]));
+                if (used != null) {
+                    slots[i] += used[dayNumbers[i]];
+                }
+            }
+        }
+    }
+}
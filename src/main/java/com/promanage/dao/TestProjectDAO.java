@@ -1,9 +1,12 @@
 package com.promanage.dao;
 
 import com.promanage.model.Project;
+import com.promanage.model.ProjectLookup;
+import com.promanage.model.ProjectStatus;
 import com.promanage.utils.DatabaseConnection;
 
 import java.math.BigDecimal;
+import java.util.Arrays;
 import java.util.List;
 
 
@@ -51,13 +54,19 @@ public class TestProjectDAO {
 
             // Test 5: Update project status
             System.out.println("\n5. Testing updateProjectStatus():");
-            boolean updated = projectDAO.updateProjectStatus(newProject.getProjectId(), "SCHEDULED");
+            boolean updated = projectDAO.updateProjectStatus(newProject.getProjectId(), ProjectStatus.SCHEDULED);
             if (updated) {
                 System.out.println("   ✓ Status updated to SCHEDULED");
                 Project updatedProject = projectDAO.getProjectById(newProject.getProjectId());
                 System.out.println("   Current status: " + updatedProject.getStatus());
             }
 
+            // Test 6: Look up several projects at once
+            System.out.println("\n6. Testing getProjectsByIds():");
+            ProjectLookup lookup = projectDAO.getProjectsByIds(new int[]{newProject.getProjectId(), -1});
+            System.out.println("   Found: " + lookup.get(0).getTitle());
+            System.out.println("   Missing IDs: " + Arrays.toString(lookup.getMissingIds()));
+
             System.out.println("\n=== All DAO Tests Completed Successfully! ===");
 
         } catch (Exception e) {
@@ -0,0 +1,100 @@
+package com.promanage.dao;
+
+import com.promanage.model.Project;
+import com.promanage.model.ScheduleEntry;
+import com.promanage.model.ScheduleResult;
+import com.promanage.model.ScheduledProject;
+import com.promanage.service.SchedulingService;
+import com.promanage.service.engine.GreedySchedulingEngine;
+import com.promanage.service.engine.SlotAllocatorType;
+import com.promanage.utils.AppConfig;
+import com.promanage.utils.DatabaseConnection;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+//  Checks that saved schedules keep earlier runs and split long plans into weeks
+//  Needs the configured database; adds two projects and leaves them scheduled.
+public class TestScheduleDAO {
+
+    public static void main(String[] args) {
+        ProjectDAO projectDAO = new ProjectDAOImpl();
+        ScheduleDAO scheduleDAO = new ScheduleDAOImpl();
+        SchedulingService schedulingService = new SchedulingService(projectDAO,
+                new GreedySchedulingEngine(AppConfig.getHorizonDays(), AppConfig.getDayCapacity(),
+                        SlotAllocatorType.fromConfig()),
+                scheduleDAO);
+        LocalDate week = SchedulingService.plannedWeekStart();
+        int failures = 0;
+
+        try {
+            System.out.println("=== Testing ScheduleDAO Operations ===\n");
+
+            // Test 1: a second generate in the same week adds to the first
+            System.out.println("1. Testing generateSchedule() twice in one week:");
+            Project first = new Project("Schedule Test - First Run", 1, new BigDecimal("9999999.00"));
+            projectDAO.addProject(first);
+            schedulingService.generateSchedule();
+
+            Project second = new Project("Schedule Test - Second Run", 1, new BigDecimal("9999998.00"));
+            projectDAO.addProject(second);
+            schedulingService.generateSchedule();
+
+            List<ScheduleEntry> entries = scheduleDAO.getWeek(week);
+            boolean firstKept = contains(entries, first.getProjectId());
+            boolean secondAdded = contains(entries, second.getProjectId());
+            System.out.println("   First run's row kept: " + firstKept);
+            System.out.println("   Second run's row added: " + secondAdded);
+            if (!firstKept || !secondAdded) {
+                failures++;
+            }
+
+            // Test 2: plan days past Friday land in the following week
+            System.out.println("\n2. Testing a plan longer than one week:");
+            LocalDate planStart = week.plusWeeks(52);
+            List<ScheduledProject> scheduled = new ArrayList<>();
+            scheduled.add(new ScheduledProject(first, 2));
+            scheduled.add(new ScheduledProject(second, 7));
+            scheduleDAO.replaceSchedule(planStart, new ScheduleResult(scheduled, new ArrayList<>()));
+
+            List<ScheduleEntry> firstWeek = scheduleDAO.getWeek(planStart);
+            List<ScheduleEntry> secondWeek = scheduleDAO.getWeek(planStart.plusWeeks(1));
+            boolean split = firstWeek.size() == 1 && firstWeek.get(0).projectId() == first.getProjectId()
+                    && secondWeek.size() == 1 && secondWeek.get(0).projectId() == second.getProjectId()
+                    && secondWeek.get(0).dayNumber() == 2
+                    && secondWeek.get(0).date().equals(planStart.plusWeeks(1).plusDays(1));
+            for (ScheduleEntry entry : secondWeek) {
+                System.out.println("   " + entry);
+            }
+            System.out.println("   Day 7 stored as Tuesday of the next week: " + split);
+            if (!split) {
+                failures++;
+            }
+            scheduleDAO.deleteWeek(planStart);
+            scheduleDAO.deleteWeek(planStart.plusWeeks(1));
+
+            if (failures == 0) {
+                System.out.println("\n=== All ScheduleDAO Tests Completed Successfully! ===");
+            } else {
+                System.err.println("\n✗ " + failures + " ScheduleDAO tests failed!");
+            }
+
+        } catch (Exception e) {
+            System.err.println("✗ Test failed: " + e.getMessage());
+            e.printStackTrace();
+        } finally {
+            DatabaseConnection.closeConnection();
+        }
+    }
+
+    private static boolean contains(List<ScheduleEntry> entries, int projectId) {
+        for (ScheduleEntry entry : entries) {
+            if (entry.projectId() == projectId) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,237 @@
+package com.promanage.loadtest;
+
+import com.promanage.dao.DataAccessException;
+import com.promanage.dao.IngestionQueue;
+import com.promanage.dao.ProjectDAO;
+import com.promanage.dao.ProjectDAOImpl;
+import com.promanage.model.Project;
+import com.promanage.model.ScheduleResult;
+import com.promanage.service.SchedulingService;
+import com.promanage.utils.AppConfig;
+import com.promanage.utils.DatabaseConnection;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Stream;
+
+//  End-to-end load test against the configured PostgreSQL database
+//  Loads a seeded synthetic workload, then repeatedly drives the real paths:
+//  streamed reads through ProjectDAOImpl, SchedulingService.generateSchedule
+//  (which writes statuses) and the status reset. Prints latency percentiles,
+//  rows/s and peak heap per phase.
+//
+//  --ingest-rows adds that many more projects through the group-commit
+//  IngestionQueue from --ingest-threads concurrent producers; its latency is
+//  per project, from submit() until the ID is known.
+//
+//  Usage: LoadTestHarness [--rows=100000] [--seed=42] [--deadline-skew=0]
+//         [--revenue-skew=0] [--iterations=5] [--chunk-rows=10000]
+//         [--engine=greedy] [--replace-data | --reuse-data]
+//         [--ingest-rows=0] [--ingest-threads=8]
+//
+//  The projects table must be empty unless --replace-data (TRUNCATE first) or
+//  --reuse-data (skip loading) is given.
+public class LoadTestHarness {
+
+    public static void main(String[] args) {
+        Map<String, String> options = parseOptions(args);
+        int rows = Integer.parseInt(options.getOrDefault("rows", "100000"));
+        long seed = Long.parseLong(options.getOrDefault("seed", "42"));
+        double deadlineSkew = Double.parseDouble(options.getOrDefault("deadline-skew", "0"));
+        double revenueSkew = Double.parseDouble(options.getOrDefault("revenue-skew", "0"));
+        int iterations = Integer.parseInt(options.getOrDefault("iterations", "5"));
+        int chunkRows = Integer.parseInt(options.getOrDefault("chunk-rows", "10000"));
+        int ingestRows = Integer.parseInt(options.getOrDefault("ingest-rows", "0"));
+        int ingestThreads = Integer.parseInt(options.getOrDefault("ingest-threads", "8"));
+        boolean replaceData = options.containsKey("replace-data");
+        boolean reuseData = options.containsKey("reuse-data");
+        if (options.containsKey("engine")) {
+            System.setProperty(AppConfig.SCHEDULING_ENGINE, options.get("engine"));
+        }
+
+        System.out.println("=== ProManage Load Test ===\n");
+        List<PhaseStats> phases = new ArrayList<>();
+
+        try {
+            long existing = countProjects();
+            if (!reuseData) {
+                if (existing > 0 && !replaceData) {
+                    System.err.println("✗ projects already holds " + existing
+                            + " rows; pass --replace-data to truncate it or --reuse-data to keep it");
+                    System.exit(1);
+                }
+                if (existing > 0) {
+                    truncateProjects();
+                }
+
+                WorkloadGenerator generator = new WorkloadGenerator(seed, AppConfig.getHorizonDays(),
+                        deadlineSkew, revenueSkew);
+                System.out.println("Loading " + rows + " projects (" + generator + ")");
+                phases.add(new WorkloadLoader(chunkRows).load(generator, rows));
+                WorkloadLoader.vacuumAnalyze();
+            } else {
+                System.out.println("Reusing " + existing + " existing projects");
+            }
+
+            ProjectDAO projectDAO = new ProjectDAOImpl();
+            if (ingestRows > 0) {
+                WorkloadGenerator generator = new WorkloadGenerator(seed + 1, AppConfig.getHorizonDays(),
+                        deadlineSkew, revenueSkew);
+                System.out.println("Ingesting " + ingestRows + " projects from " + ingestThreads + " threads");
+                phases.add(ingest(projectDAO, generator, ingestRows, ingestThreads));
+            }
+            SchedulingService schedulingService = new SchedulingService();
+            PhaseStats readAll = new PhaseStats("read all (stream)");
+            PhaseStats readCandidates = new PhaseStats("read pending candidates");
+            PhaseStats schedule = new PhaseStats("generate schedule");
+            PhaseStats reset = new PhaseStats("reset statuses");
+
+            for (int i = 0; i < iterations; i++) {
+                System.out.println("Iteration " + (i + 1) + "/" + iterations);
+                timeRead(readAll, () -> projectDAO.streamAllProjects());
+                timeRead(readCandidates, () -> projectDAO.streamPendingCandidates());
+
+                schedule.begin();
+                long start = System.nanoTime();
+                ScheduleResult result = schedulingService.generateSchedule();
+                schedule.record(System.nanoTime() - start, result.getTotalScheduled() + result.getTotalUnscheduled());
+                schedule.end();
+
+                reset.begin();
+                start = System.nanoTime();
+                int resetRows = schedulingService.resetAllProjectStatus();
+                reset.record(System.nanoTime() - start, resetRows);
+                reset.end();
+            }
+            phases.add(readAll);
+            phases.add(readCandidates);
+            phases.add(schedule);
+            phases.add(reset);
+
+            System.out.println();
+            System.out.println(PhaseStats.header());
+            for (PhaseStats phase : phases) {
+                System.out.println(phase);
+            }
+            System.out.println("\nHeap MB is the peak heap in use during the phase.");
+
+        } catch (SQLException e) {
+            System.err.println("✗ Load test failed: " + e.getMessage());
+            System.exit(1);
+        } finally {
+            DatabaseConnection.closeConnection();
+        }
+    }
+
+    // Producers submit pre-generated projects concurrently; every future's
+    // submit-to-ID latency is one sample
+    private static PhaseStats ingest(ProjectDAO projectDAO, WorkloadGenerator generator, int rows, int threads)
+            throws SQLException {
+        List<Project> projects = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            projects.add(generator.next());
+        }
+
+        PhaseStats stats = new PhaseStats("ingest (group commit)");
+        List<CompletableFuture<Integer>> pending = Collections.synchronizedList(new ArrayList<>(rows));
+        List<Thread> producers = new ArrayList<>(threads);
+        stats.begin();
+
+        try (IngestionQueue queue = IngestionQueue.fromConfig(projectDAO)) {
+            for (int t = 0; t < threads; t++) {
+                List<Project> share = projects.subList(rows * t / threads, rows * (t + 1) / threads);
+                Thread producer = new Thread(() -> {
+                    for (Project project : share) {
+                        long start = System.nanoTime();
+                        CompletableFuture<Integer> future = queue.submit(project).whenComplete((id, error) -> {
+                            synchronized (stats) {
+                                stats.record(System.nanoTime() - start, error == null ? 1 : 0);
+                            }
+                        });
+                        pending.add(future);
+                    }
+                }, "promanage-ingest-producer-" + t);
+                producers.add(producer);
+                producer.start();
+            }
+            for (Thread producer : producers) {
+                producer.join();
+            }
+            CompletableFuture.allOf(pending.toArray(CompletableFuture<?>[]::new)).join();
+            System.out.println("  " + queue.getStats());
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while ingesting", e);
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof SQLException sql ? sql : new SQLException(e.getCause());
+        }
+        stats.end();
+        return stats;
+    }
+
+    private interface StreamSource {
+        Stream<?> open() throws SQLException;
+    }
+
+    // Drains one streamed read; rows are counted, not kept
+    private static void timeRead(PhaseStats stats, StreamSource source) throws SQLException {
+        stats.begin();
+        long start = System.nanoTime();
+        long count = 0;
+        try (Stream<?> stream = source.open()) {
+            Iterator<?> it = stream.iterator();
+            while (it.hasNext()) {
+                it.next();
+                count++;
+            }
+        } catch (DataAccessException e) {
+            throw e.getCause();
+        }
+        stats.record(System.nanoTime() - start, count);
+        stats.end();
+    }
+
+    private static long countProjects() throws SQLException {
+        try (Connection conn = DatabaseConnection.getConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM projects")) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    private static void truncateProjects() throws SQLException {
+        try (Connection conn = DatabaseConnection.getConnection();
+             Statement stmt = conn.createStatement()) {
+            stmt.execute("TRUNCATE projects CASCADE");
+        }
+    }
+
+    // --key=value pairs; a bare --flag maps to "true"
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("Unexpected argument: " + arg);
+            }
+            int eq = arg.indexOf('=');
+            if (eq < 0) {
+                options.put(arg.substring(2), "true");
+            } else {
+                options.put(arg.substring(2, eq), arg.substring(eq + 1));
+            }
+        }
+        return options;
+    }
+}
@@ -0,0 +1,95 @@
+package com.promanage.loadtest;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.Arrays;
+
+//  Latency samples, row counts and peak heap for one load-test phase
+//  begin() resets the JVM's heap pool peaks; end() reads them back. The peak is
+//  the sum of per-pool peaks, so it can slightly overstate the true maximum.
+
+public class PhaseStats {
+
+    private final String name;
+    private long[] latenciesNanos = new long[16];
+    private int samples;
+    private long rows;
+    private long totalNanos;
+    private long peakHeapBytes;
+
+    public PhaseStats(String name) {
+        this.name = name;
+    }
+
+    public void begin() {
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP && pool.isValid()) {
+                pool.resetPeakUsage();
+            }
+        }
+    }
+
+    public void record(long nanos, long rowCount) {
+        if (samples == latenciesNanos.length) {
+            latenciesNanos = Arrays.copyOf(latenciesNanos, samples * 2);
+        }
+        latenciesNanos[samples++] = nanos;
+        totalNanos += nanos;
+        rows += rowCount;
+    }
+
+    public void end() {
+        long peak = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP && pool.isValid()) {
+                peak += pool.getPeakUsage().getUsed();
+            }
+        }
+        peakHeapBytes = Math.max(peakHeapBytes, peak);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getSamples() {
+        return samples;
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    public long getPeakHeapBytes() {
+        return peakHeapBytes;
+    }
+
+//  Nearest-rank percentile in milliseconds (p in 0..100)
+
+    public double percentileMillis(double p) {
+        if (samples == 0) {
+            return 0;
+        }
+        long[] sorted = Arrays.copyOf(latenciesNanos, samples);
+        Arrays.sort(sorted);
+        int rank = (int) Math.ceil(p / 100.0 * samples);
+        return sorted[Math.max(0, rank - 1)] / 1_000_000.0;
+    }
+
+    public double rowsPerSecond() {
+        return totalNanos == 0 ? 0 : rows * 1_000_000_000.0 / totalNanos;
+    }
+
+    public static String header() {
+        return String.format("%-26s %5s %12s %10s %10s %10s %10s %14s %10s",
+                "Phase", "Runs", "Rows", "p50 ms", "p95 ms", "p99 ms", "max ms", "Rows/s", "Heap MB");
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%-26s %5d %,12d %10.2f %10.2f %10.2f %10.2f %,14.0f %10.1f",
+                name, samples, rows, percentileMillis(50), percentileMillis(95), percentileMillis(99),
+                percentileMillis(100), rowsPerSecond(), peakHeapBytes / (1024.0 * 1024.0));
+    }
+}
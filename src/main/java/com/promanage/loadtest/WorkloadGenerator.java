@@ -0,0 +1,99 @@
+package com.promanage.loadtest;
+
+import com.promanage.model.Project;
+import com.promanage.model.ProjectStatus;
+
+import java.math.BigDecimal;
+import java.util.SplittableRandom;
+
+//  Reproducible synthetic projects
+//  The same seed and settings always produce the same sequence of projects.
+//  Skew 0 means uniform; larger values push deadlines towards day 1 and
+//  revenues towards the minimum (u^(1 + skew) for a uniform draw u), which
+//  gives a long tail of a few very valuable projects.
+
+public class WorkloadGenerator {
+
+    static final long MIN_REVENUE_CENTS = 1_000_00L;     // ₹1,000
+    static final long MAX_REVENUE_CENTS = 10_00_000_00L; // ₹10,00,000
+
+    private static final String[] KINDS = {"UI Design", "Development", "Testing", "Deployment"};
+
+    private final long seed;
+    private final int horizonDays;
+    private final double deadlineSkew;
+    private final double revenueSkew;
+    private final SplittableRandom random;
+    private int generated;
+
+    public WorkloadGenerator(long seed, int horizonDays, double deadlineSkew, double revenueSkew) {
+        if (horizonDays <= 0) {
+            throw new IllegalArgumentException("Horizon must be at least one day: " + horizonDays);
+        }
+        if (deadlineSkew < 0 || revenueSkew < 0) {
+            throw new IllegalArgumentException("Skew must not be negative");
+        }
+        this.seed = seed;
+        this.horizonDays = horizonDays;
+        this.deadlineSkew = deadlineSkew;
+        this.revenueSkew = revenueSkew;
+        this.random = new SplittableRandom(seed);
+    }
+
+    public Project next() {
+        int deadline = nextDeadline();
+        long revenueCents = nextRevenueCents();
+        generated++;
+        return new Project(0, titleFor(generated), deadline, BigDecimal.valueOf(revenueCents, 2),
+                ProjectStatus.PENDING, null);
+    }
+
+//  Append the next project as a CSV line (title,deadline,revenue), without
+//  building a Project; used by the COPY loader
+
+    public void appendCsv(StringBuilder target) {
+        int deadline = nextDeadline();
+        long revenueCents = nextRevenueCents();
+        generated++;
+        target.append(KINDS[generated % KINDS.length]).append(" #").append(generated)
+                .append(',').append(deadline)
+                .append(',').append(revenueCents / 100).append('.');
+        long paise = revenueCents % 100;
+        if (paise < 10) {
+            target.append('0');
+        }
+        target.append(paise).append('\n');
+    }
+
+    public int getGenerated() {
+        return generated;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public int getHorizonDays() {
+        return horizonDays;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("seed=%d, horizon=%d days, deadline skew=%.2f, revenue skew=%.2f",
+                seed, horizonDays, deadlineSkew, revenueSkew);
+    }
+
+    private int nextDeadline() {
+        double u = Math.pow(random.nextDouble(), 1.0 + deadlineSkew);
+        return 1 + Math.min(horizonDays - 1, (int) (u * horizonDays));
+    }
+
+    private long nextRevenueCents() {
+        double u = Math.pow(random.nextDouble(), 1.0 + revenueSkew);
+        return MIN_REVENUE_CENTS + (long) (u * (MAX_REVENUE_CENTS - MIN_REVENUE_CENTS));
+    }
+
+    private static String titleFor(int sequence) {
+        return KINDS[sequence % KINDS.length] + " #" + sequence;
+    }
+}
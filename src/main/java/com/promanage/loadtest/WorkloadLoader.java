@@ -0,0 +1,75 @@
+package com.promanage.loadtest;
+
+import com.promanage.utils.DatabaseConnection;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+//  Bulk-loads generated projects with COPY FROM STDIN
+//  Rows are rendered straight into CSV chunks (no Project objects) and each
+//  chunk is one latency sample. IDs, status and created_at take their defaults.
+
+public class WorkloadLoader {
+
+    private static final String COPY_SQL = "COPY projects (title, deadline, revenue) FROM STDIN WITH (FORMAT csv)";
+
+    private final int chunkRows;
+
+    public WorkloadLoader(int chunkRows) {
+        if (chunkRows <= 0) {
+            throw new IllegalArgumentException("Chunk size must be at least one row: " + chunkRows);
+        }
+        this.chunkRows = chunkRows;
+    }
+
+    public PhaseStats load(WorkloadGenerator generator, int rows) throws SQLException {
+        PhaseStats stats = new PhaseStats("load (COPY)");
+        StringBuilder chunk = new StringBuilder(chunkRows * 32);
+
+        try (Connection conn = DatabaseConnection.getConnection()) {
+            stats.begin();
+            CopyIn copyIn = conn.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_SQL);
+            try {
+                int remaining = rows;
+                while (remaining > 0) {
+                    long start = System.nanoTime();
+                    int n = Math.min(chunkRows, remaining);
+                    chunk.setLength(0);
+                    for (int i = 0; i < n; i++) {
+                        generator.appendCsv(chunk);
+                    }
+                    byte[] bytes = chunk.toString().getBytes(StandardCharsets.UTF_8);
+                    copyIn.writeToCopy(bytes, 0, bytes.length);
+                    remaining -= n;
+                    stats.record(System.nanoTime() - start, n);
+                }
+                long start = System.nanoTime();
+                copyIn.endCopy();
+                stats.record(System.nanoTime() - start, 0);
+            } finally {
+                if (copyIn.isActive()) {
+                    copyIn.cancelCopy();
+                }
+            }
+            stats.end();
+        } catch (SQLException e) {
+            System.err.println("Error loading workload: " + e.getMessage());
+            throw e;
+        }
+        return stats;
+    }
+
+//  Refresh planner statistics and the visibility map, so the pending read
+//  can use its index-only scan right after a bulk load
+
+    public static void vacuumAnalyze() throws SQLException {
+        try (Connection conn = DatabaseConnection.getConnection();
+             Statement stmt = conn.createStatement()) {
+            stmt.execute("VACUUM ANALYZE projects");
+        }
+    }
+}
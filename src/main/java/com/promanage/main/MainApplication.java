@@ -1,17 +1,36 @@
 package com.promanage.main;
 
+import com.promanage.dao.CachingProjectDAO;
+import com.promanage.dao.DataAccessException;
+import com.promanage.dao.ProjectArchiver;
+import com.promanage.dao.ProjectCsvTransfer;
 import com.promanage.dao.ProjectDAO;
 import com.promanage.dao.ProjectDAOImpl;
+import com.promanage.dao.ScheduleDAO;
+import com.promanage.dao.ScheduleDAOImpl;
+import com.promanage.model.CsvTransferResult;
 import com.promanage.model.Project;
+import com.promanage.model.ScheduleEntry;
 import com.promanage.model.ScheduledProject;
+import com.promanage.model.ScheduleDiff;
 import com.promanage.model.ScheduleResult;
 import com.promanage.service.SchedulingService;
+import com.promanage.utils.AppConfig;
 import com.promanage.utils.DatabaseConnection;
 
+import java.io.IOException;
 import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.sql.SQLException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Scanner;
+import java.util.stream.Stream;
 
 /**
  * Main Application class with menu-driven interface
@@ -19,12 +38,15 @@ import java.util.Scanner;
  */
 public class MainApplication {
 
-    private static final ProjectDAO projectDAO = new ProjectDAOImpl();
-    private static final SchedulingService schedulingService = new SchedulingService();
+    // Shared with the scheduling service so writes from either side keep the cache consistent
+    private static final ProjectDAO projectDAO = CachingProjectDAO.fromConfig(new ProjectDAOImpl());
+    private static final SchedulingService schedulingService = new SchedulingService(projectDAO);
+    private static final ScheduleDAO scheduleDAO = new ScheduleDAOImpl();
     private static final Scanner scanner = new Scanner(System.in);
 
     public static void main(String[] args) {
         displayWelcomeBanner();
+        warmUpCache();
 
         boolean running = true;
 
@@ -52,12 +74,30 @@ public class MainApplication {
                     case 6:
                         clearAllProjects();
                         break;
+                    case 7:
+                        replanSchedule();
+                        break;
+                    case 8:
+                        previewSchedule();
+                        break;
+                    case 9:
+                        importProjects();
+                        break;
+                    case 10:
+                        exportProjects();
+                        break;
+                    case 11:
+                        viewSavedSchedule();
+                        break;
+                    case 12:
+                        archiveCompletedProjects();
+                        break;
                     case 0:
                         running = false;
                         exitApplication();
                         break;
                     default:
-                        System.out.println("\n⚠️  Invalid choice! Please select 0-6.\n");
+                        System.out.println("\n⚠️  Invalid choice! Please select 0-12.\n");
                 }
 
                 if (running && choice != 0) {
@@ -72,6 +112,21 @@ public class MainApplication {
         }
     }
 
+    /**
+     * Pre-load the project cache when cache.warmUp is set
+     */
+    private static void warmUpCache() {
+        if (projectDAO instanceof CachingProjectDAO cache
+                && Boolean.parseBoolean(AppConfig.getString(AppConfig.CACHE_WARM_UP, "false"))) {
+            try {
+                cache.warmUp();
+                System.out.println("✓ Cache warmed up: " + cache.getStats() + "\n");
+            } catch (SQLException e) {
+                System.err.println("⚠️  Cache warm-up failed: " + e.getMessage() + "\n");
+            }
+        }
+    }
+
     /**
      * Display welcome banner
      */
@@ -97,6 +152,12 @@ public class MainApplication {
         System.out.println("║  4. Generate Weekly Schedule                                 ║");
         System.out.println("║  5. Reset Project Statuses                                   ║");
         System.out.println("║  6. Clear All Projects                                       ║");
+        System.out.println("║  7. Re-plan Schedule (apply changes only)                    ║");
+        System.out.println("║  8. Preview Schedule (no changes)                            ║");
+        System.out.println("║  9. Import Projects from CSV                                 ║");
+        System.out.println("║  10. Export Projects to CSV                                  ║");
+        System.out.println("║  11. View Saved Schedule / Project History                   ║");
+        System.out.println("║  12. Archive Completed Projects                              ║");
         System.out.println("║  0. Exit                                                     ║");
         System.out.println("╚══════════════════════════════════════════════════════════════╝");
         System.out.print("\nEnter your choice: ");
@@ -134,19 +195,20 @@ public class MainApplication {
         }
 
         // Get deadline
-        System.out.print("Enter Deadline (1-5 days): ");
+        int horizonDays = schedulingService.getHorizonDays();
+        System.out.print("Enter Deadline (1-" + horizonDays + " days): ");
         int deadline;
         try {
             deadline = scanner.nextInt();
             scanner.nextLine(); // Consume newline
 
-            if (deadline < 1 || deadline > 5) {
-                System.out.println("\n✗ Error: Deadline must be between 1 and 5 days!");
+            if (deadline < 1 || deadline > horizonDays) {
+                System.out.println("\n✗ Error: Deadline must be between 1 and " + horizonDays + " days!");
                 return;
             }
         } catch (Exception e) {
             scanner.nextLine(); // Clear buffer
-            System.out.println("\n✗ Error: Invalid deadline! Please enter a number between 1-5.");
+            System.out.println("\n✗ Error: Invalid deadline! Please enter a number between 1-" + horizonDays + ".");
             return;
         }
 
@@ -170,7 +232,7 @@ public class MainApplication {
         // Create and add project
         Project project = new Project(title, deadline, revenue);
 
-        if (!project.isValid()) {
+        if (!project.isValid(horizonDays)) {
             System.out.println("\n✗ Error: Invalid project data!");
             return;
         }
@@ -178,6 +240,7 @@ public class MainApplication {
         boolean added = projectDAO.addProject(project);
 
         if (added) {
+            schedulingService.projectAdded(project);
             System.out.println("\n✓ Project added successfully!");
             System.out.println("  Project ID: " + project.getProjectId());
             System.out.println("  Title: " + project.getTitle());
@@ -196,27 +259,36 @@ public class MainApplication {
         System.out.println("                     ALL PROJECTS");
         System.out.println("═══════════════════════════════════════════════════════════════\n");
 
-        List<Project> projects = projectDAO.getAllProjects();
+        int total = 0;
 
-        if (projects.isEmpty()) {
-            System.out.println("No projects found in the database.");
-            return;
-        }
+        // Rows are printed as they arrive instead of loading the whole table first
+        try (Stream<Project> projects = projectDAO.streamAllProjects()) {
+            Iterator<Project> it = projects.iterator();
+
+            if (!it.hasNext()) {
+                System.out.println("No projects found in the database.");
+                return;
+            }
 
-        System.out.printf("%-5s %-35s %-10s %-15s %-12s%n",
-                "ID", "Title", "Deadline", "Revenue", "Status");
-        System.out.println("─────────────────────────────────────────────────────────────────────────────");
-
-        for (Project p : projects) {
-            System.out.printf("%-5d %-35s %-10d ₹%-14s %-12s%n",
-                    p.getProjectId(),
-                    truncate(p.getTitle(), 35),
-                    p.getDeadline(),
-                    String.format("%,.2f", p.getRevenue()),
-                    p.getStatus());
+            System.out.printf("%-5s %-35s %-10s %-15s %-12s%n",
+                    "ID", "Title", "Deadline", "Revenue", "Status");
+            System.out.println("─────────────────────────────────────────────────────────────────────────────");
+
+            while (it.hasNext()) {
+                Project p = it.next();
+                System.out.printf("%-5d %-35s %-10d ₹%-14s %-12s%n",
+                        p.getProjectId(),
+                        truncate(p.getTitle(), 35),
+                        p.getDeadline(),
+                        String.format("%,.2f", p.getRevenue()),
+                        p.getStatus());
+                total++;
+            }
+        } catch (DataAccessException e) {
+            throw e.getCause();
         }
 
-        System.out.println("\nTotal Projects: " + projects.size());
+        System.out.println("\nTotal Projects: " + total);
     }
 
     /**
@@ -227,26 +299,34 @@ public class MainApplication {
         System.out.println("                   PENDING PROJECTS");
         System.out.println("═══════════════════════════════════════════════════════════════\n");
 
-        List<Project> projects = projectDAO.getPendingProjects();
+        int total = 0;
 
-        if (projects.isEmpty()) {
-            System.out.println("No pending projects found.");
-            return;
-        }
+        try (Stream<Project> projects = projectDAO.streamPendingProjects()) {
+            Iterator<Project> it = projects.iterator();
 
-        System.out.printf("%-5s %-35s %-10s %-15s%n",
-                "ID", "Title", "Deadline", "Revenue");
-        System.out.println("───────────────────────────────────────────────────────────────────────");
+            if (!it.hasNext()) {
+                System.out.println("No pending projects found.");
+                return;
+            }
 
-        for (Project p : projects) {
-            System.out.printf("%-5d %-35s %-10d ₹%-14s%n",
-                    p.getProjectId(),
-                    truncate(p.getTitle(), 35),
-                    p.getDeadline(),
-                    String.format("%,.2f", p.getRevenue()));
+            System.out.printf("%-5s %-35s %-10s %-15s%n",
+                    "ID", "Title", "Deadline", "Revenue");
+            System.out.println("───────────────────────────────────────────────────────────────────────");
+
+            while (it.hasNext()) {
+                Project p = it.next();
+                System.out.printf("%-5d %-35s %-10d ₹%-14s%n",
+                        p.getProjectId(),
+                        truncate(p.getTitle(), 35),
+                        p.getDeadline(),
+                        String.format("%,.2f", p.getRevenue()));
+                total++;
+            }
+        } catch (DataAccessException e) {
+            throw e.getCause();
         }
 
-        System.out.println("\nTotal Pending Projects: " + projects.size());
+        System.out.println("\nTotal Pending Projects: " + total);
     }
 
     /**
@@ -268,47 +348,7 @@ public class MainApplication {
         System.out.println("\n► Generating optimal schedule...\n");
 
         ScheduleResult result = schedulingService.generateSchedule();
-
-        // Display scheduled projects
-        System.out.println("═══════════════════════════════════════════════════════════════");
-        System.out.println("        📅 WEEKLY SCHEDULE (Monday - Friday)");
-        System.out.println("═══════════════════════════════════════════════════════════════\n");
-
-        if (result.getScheduledProjects().isEmpty()) {
-            System.out.println("No projects could be scheduled.");
-        } else {
-            for (ScheduledProject sp : result.getScheduledProjects()) {
-                System.out.println("  " + sp);
-            }
-        }
-
-        // Display unscheduled projects
-        System.out.println("\n═══════════════════════════════════════════════════════════════");
-        System.out.println("        ⚠️  UNSCHEDULED PROJECTS");
-        System.out.println("═══════════════════════════════════════════════════════════════\n");
-
-        if (result.getUnscheduledProjects().isEmpty()) {
-            System.out.println("  ✓ All projects scheduled successfully!");
-        } else {
-            for (Project p : result.getUnscheduledProjects()) {
-                System.out.println("  • " + p.getTitle() +
-                        " [Revenue: ₹" + String.format("%,.2f", p.getRevenue()) +
-                        ", Deadline: " + p.getDeadline() + " days]");
-            }
-        }
-
-        // Display financial summary
-        System.out.println("\n═══════════════════════════════════════════════════════════════");
-        System.out.println("        💰 FINANCIAL SUMMARY");
-        System.out.println("═══════════════════════════════════════════════════════════════\n");
-
-        BigDecimal totalRevenue = schedulingService.calculateTotalRevenue(result.getScheduledProjects());
-        BigDecimal lostRevenue = schedulingService.calculateLostRevenue(result.getUnscheduledProjects());
-
-        System.out.println("  Projects Scheduled   : " + result.getScheduledProjects().size());
-        System.out.println("  Projects Unscheduled : " + result.getUnscheduledProjects().size());
-        System.out.println("  Expected Revenue     : ₹" + String.format("%,.2f", totalRevenue));
-        System.out.println("  Lost Revenue         : ₹" + String.format("%,.2f", lostRevenue));
+        displayScheduleResult(result);
 
         System.out.println("\n✓ Schedule generation completed successfully!");
     }
@@ -329,8 +369,8 @@ public class MainApplication {
             return;
         }
 
-        schedulingService.resetAllProjectStatus();
-        System.out.println("\n✓ All project statuses have been reset to PENDING!");
+        int reset = schedulingService.resetAllProjectStatus();
+        System.out.println("\n✓ All project statuses have been reset to PENDING! (" + reset + " updated)");
     }
 
     /**
@@ -358,6 +398,7 @@ public class MainApplication {
         }
 
         boolean cleared = projectDAO.clearAllProjects();
+        schedulingService.invalidateLivePlan();
 
         if (cleared) {
             System.out.println("\n✓ All projects have been deleted from the database!");
@@ -366,6 +407,221 @@ public class MainApplication {
         }
     }
 
+    /**
+     * Option 7: Re-plan the schedule and write only what changed
+     */
+    private static void replanSchedule() throws SQLException {
+        System.out.println("\n═══════════════════════════════════════════════════════════════");
+        System.out.println("                 RE-PLAN SCHEDULE");
+        System.out.println("═══════════════════════════════════════════════════════════════\n");
+
+        System.out.print("⚠️  This will update the statuses of changed projects. Continue? (yes/no): ");
+        String confirmation = scanner.nextLine().trim().toLowerCase();
+
+        if (!confirmation.equals("yes") && !confirmation.equals("y")) {
+            System.out.println("\n✗ Re-plan cancelled.");
+            return;
+        }
+
+        ScheduleDiff diff = schedulingService.reschedule();
+
+        if (diff.isEmpty()) {
+            System.out.println("\n✓ Schedule unchanged (" + diff.getUnchanged() + " projects kept).");
+            return;
+        }
+
+        System.out.println();
+        for (ScheduledProject sp : diff.getNewlyScheduled()) {
+            System.out.println("  + " + sp);
+        }
+        for (ScheduledProject sp : diff.getDropped()) {
+            System.out.println("  - " + sp.getProject().getTitle()
+                    + (sp.isPlaced() ? " (was " + sp.getDayName() + ")" : " (was scheduled without a day)"));
+        }
+        for (ScheduleDiff.DayChange change : diff.getMoved()) {
+            ScheduledProject sp = change.current();
+            System.out.println("  ~ " + sp.getProject().getTitle() + ": Day " + change.previousDayNumber()
+                    + " → Day " + sp.getDayNumber() + " (" + sp.getDayName() + ")");
+        }
+
+        System.out.println("\n✓ " + diff.getNewlyScheduled().size() + " scheduled, "
+                + diff.getDropped().size() + " dropped, " + diff.getMoved().size() + " moved, "
+                + diff.getUnchanged() + " unchanged.");
+    }
+
+    /**
+     * Option 8: Preview the schedule without changing any status
+     */
+    private static void previewSchedule() throws SQLException {
+        System.out.println("\n═══════════════════════════════════════════════════════════════");
+        System.out.println("                 PREVIEW SCHEDULE");
+        System.out.println("═══════════════════════════════════════════════════════════════\n");
+
+        displayScheduleResult(schedulingService.previewSchedule());
+        System.out.println("\n✓ Preview only - no project statuses were changed.");
+    }
+
+    /**
+     * Option 9: Bulk-import projects from a CSV file
+     */
+    private static void importProjects() throws SQLException, IOException {
+        System.out.println("\n═══════════════════════════════════════════════════════════════");
+        System.out.println("                 IMPORT PROJECTS FROM CSV");
+        System.out.println("═══════════════════════════════════════════════════════════════\n");
+
+        System.out.println("The file needs a header row with title, deadline and revenue columns");
+        System.out.println("(status is optional); files written by Export can be imported again.\n");
+        System.out.print("Enter CSV file path: ");
+        Path source = Path.of(scanner.nextLine().trim());
+
+        if (!Files.isReadable(source)) {
+            System.out.println("\n✗ Cannot read " + source);
+            return;
+        }
+
+        Path rejectsReport = source.resolveSibling(source.getFileName() + ".rejected.csv");
+        CsvTransferResult result = new ProjectCsvTransfer().importCsv(source, rejectsReport);
+
+        if (projectDAO instanceof CachingProjectDAO cache) {
+            cache.invalidateAll();
+        }
+        schedulingService.invalidateLivePlan();
+
+        System.out.println("\n✓ " + result);
+        if (result.getRejectedCount() > 0) {
+            for (CsvTransferResult.RejectedRow row : result.getRejectedSample()) {
+                System.out.println("  ✗ " + row);
+            }
+            if (result.getRejectedCount() > result.getRejectedSample().size()) {
+                System.out.println("  ...");
+            }
+            System.out.println("\n⚠️  Rejected rows written to " + rejectsReport);
+        }
+    }
+
+    /**
+     * Option 10: Export all projects to a CSV file
+     */
+    private static void exportProjects() throws SQLException, IOException {
+        System.out.println("\n═══════════════════════════════════════════════════════════════");
+        System.out.println("                 EXPORT PROJECTS TO CSV");
+        System.out.println("═══════════════════════════════════════════════════════════════\n");
+
+        System.out.print("Enter output file path: ");
+        Path target = Path.of(scanner.nextLine().trim());
+
+        CsvTransferResult result = new ProjectCsvTransfer().exportCsv(target);
+        System.out.println("\n✓ Exported to " + target + ": " + result);
+    }
+
+    /**
+     * Option 12: Move long-completed projects to projects_archive
+     */
+    private static void archiveCompletedProjects() throws SQLException {
+        System.out.println("\n═══════════════════════════════════════════════════════════════");
+        System.out.println("                 ARCHIVE COMPLETED PROJECTS");
+        System.out.println("═══════════════════════════════════════════════════════════════\n");
+
+        ProjectArchiver.Result result;
+        try {
+            result = ProjectArchiver.fromConfig().archiveCompleted(0);
+        } finally {
+            // Batches are committed one by one, so even a failed run may have moved rows
+            if (projectDAO instanceof CachingProjectDAO cache) {
+                cache.invalidateAll();
+            }
+        }
+
+        System.out.println("✓ " + result);
+    }
+
+    /**
+     * Option 11: Show a stored week, or every week a project was scheduled in
+     */
+    private static void viewSavedSchedule() throws SQLException {
+        System.out.println("\n═══════════════════════════════════════════════════════════════");
+        System.out.println("                 SAVED SCHEDULES");
+        System.out.println("═══════════════════════════════════════════════════════════════\n");
+
+        System.out.print("Enter a date (YYYY-MM-DD, blank for the upcoming week) or a project ID: ");
+        String input = scanner.nextLine().trim();
+
+        List<ScheduleEntry> entries;
+        if (!input.isEmpty() && input.chars().allMatch(Character::isDigit)) {
+            entries = scheduleDAO.getProjectHistory(Integer.parseInt(input));
+            System.out.println("\nSchedule history of project " + input + ":\n");
+        } else {
+            LocalDate weekStart;
+            try {
+                weekStart = input.isEmpty() ? SchedulingService.plannedWeekStart()
+                        : LocalDate.parse(input).with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            } catch (DateTimeParseException e) {
+                System.out.println("\n✗ Not a date or project ID: " + input);
+                return;
+            }
+            entries = scheduleDAO.getWeek(weekStart);
+            System.out.println("\nWeek of " + weekStart + ":\n");
+        }
+
+        if (entries.isEmpty()) {
+            System.out.println("  No saved schedule found. (Set scheduler.persistSchedules=true to store schedules.)");
+            return;
+        }
+        for (ScheduleEntry entry : entries) {
+            System.out.println("  " + entry);
+        }
+        System.out.println("\n✓ " + entries.size() + " entries.");
+    }
+
+    /**
+     * Print a schedule with its unscheduled projects and financial summary
+     */
+    private static void displayScheduleResult(ScheduleResult result) {
+        // Display scheduled projects
+        System.out.println("═══════════════════════════════════════════════════════════════");
+        System.out.println("        📅 " + schedulingService.getScheduleHeading());
+        System.out.println("═══════════════════════════════════════════════════════════════\n");
+
+        if (result.getScheduledProjects().isEmpty()) {
+            System.out.println("No projects could be scheduled.");
+        } else {
+            for (ScheduledProject sp : result.getScheduledProjects()) {
+                System.out.println("  " + sp);
+            }
+        }
+
+        // Display unscheduled projects
+        System.out.println("\n═══════════════════════════════════════════════════════════════");
+        System.out.println("        ⚠️  UNSCHEDULED PROJECTS");
+        System.out.println("═══════════════════════════════════════════════════════════════\n");
+
+        if (!result.hasUnscheduledProjects()) {
+            System.out.println("  ✓ All projects scheduled successfully!");
+        } else {
+            for (Project p : result.getUnscheduledProjects()) {
+                System.out.println("  • " + p.getTitle() +
+                        " [Revenue: ₹" + String.format("%,.2f", p.getRevenue()) +
+                        ", Deadline: " + p.getDeadline() + " days]");
+            }
+            if (!result.getOmittedUnscheduled().isEmpty()) {
+                System.out.println("  • ... and " + result.getOmittedUnscheduled() + " more not listed");
+            }
+        }
+
+        // Display financial summary
+        System.out.println("\n═══════════════════════════════════════════════════════════════");
+        System.out.println("        💰 FINANCIAL SUMMARY");
+        System.out.println("═══════════════════════════════════════════════════════════════\n");
+
+        BigDecimal totalRevenue = schedulingService.calculateTotalRevenue(result.getScheduledProjects());
+        BigDecimal lostRevenue = schedulingService.calculateLostRevenue(result);
+
+        System.out.println("  Projects Scheduled   : " + result.getTotalScheduled());
+        System.out.println("  Projects Unscheduled : " + result.getTotalUnscheduled());
+        System.out.println("  Expected Revenue     : ₹" + String.format("%,.2f", totalRevenue));
+        System.out.println("  Lost Revenue         : ₹" + String.format("%,.2f", lostRevenue));
+    }
+
     /**
      * Exit application
      */
@@ -375,6 +631,9 @@ public class MainApplication {
         System.out.println("║          Closing database connection...                      ║");
         System.out.println("╚══════════════════════════════════════════════════════════════╝\n");
 
+        if (projectDAO instanceof CachingProjectDAO cache) {
+            System.out.println("  " + cache.getStats());
+        }
         DatabaseConnection.closeConnection();
         scanner.close();
         System.out.println("✓ Application closed successfully. Goodbye!\n");
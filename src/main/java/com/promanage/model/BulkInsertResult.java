@@ -0,0 +1,65 @@
+package com.promanage.model;
+
+import java.util.Collections;
+import java.util.List;
+
+//  Outcome of a chunked bulk insert
+//  Each chunk commits on its own: rows of committed chunks have their project
+//  IDs set, rows of failed chunks keep ID 0 and are listed in getFailures().
+
+public class BulkInsertResult {
+
+//  A chunk that was rolled back; rows firstRow .. firstRow + rowCount - 1 of the input
+    public record ChunkFailure(int chunkIndex, int firstRow, int rowCount, String message) {
+
+        @Override
+        public String toString() {
+            return String.format("chunk %d (rows %d-%d): %s",
+                    chunkIndex, firstRow, firstRow + rowCount - 1, message);
+        }
+    }
+
+    private final int requested;
+    private final int inserted;
+    private final int chunks;
+    private final List<ChunkFailure> failures;
+    private final long elapsedNanos;
+
+    public BulkInsertResult(int requested, int inserted, int chunks, List<ChunkFailure> failures, long elapsedNanos) {
+        this.requested = requested;
+        this.inserted = inserted;
+        this.chunks = chunks;
+        this.failures = Collections.unmodifiableList(failures);
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public int getRequested() {
+        return requested;
+    }
+
+    public int getInserted() {
+        return inserted;
+    }
+
+    public int getChunks() {
+        return chunks;
+    }
+
+    public List<ChunkFailure> getFailures() {
+        return failures;
+    }
+
+    public boolean isComplete() {
+        return failures.isEmpty() && inserted == requested;
+    }
+
+    public double rowsPerSecond() {
+        return elapsedNanos == 0 ? 0 : inserted * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Inserted %d of %d projects in %d chunks (%d failed, %,.0f rows/s)",
+                inserted, requested, chunks, failures.size(), rowsPerSecond());
+    }
+}
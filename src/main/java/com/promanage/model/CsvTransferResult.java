@@ -0,0 +1,65 @@
+package com.promanage.model;
+
+import java.util.Collections;
+import java.util.List;
+
+//  Summary of a CSV import or export through COPY
+//  Only the first few rejected rows are kept here; the full list goes to the
+//  rejected-rows report written during the import.
+
+public class CsvTransferResult {
+
+//  A row left out of an import; line is where the record starts in the source
+    public record RejectedRow(int line, String reason) {
+
+        @Override
+        public String toString() {
+            return "line " + line + ": " + reason;
+        }
+    }
+
+    private final long rowsRead;
+    private final long rowsCopied;
+    private final int rejectedCount;
+    private final List<RejectedRow> rejectedSample;
+    private final long elapsedNanos;
+
+    public CsvTransferResult(long rowsRead, long rowsCopied, int rejectedCount,
+                             List<RejectedRow> rejectedSample, long elapsedNanos) {
+        this.rowsRead = rowsRead;
+        this.rowsCopied = rowsCopied;
+        this.rejectedCount = rejectedCount;
+        this.rejectedSample = Collections.unmodifiableList(rejectedSample);
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public long getRowsRead() {
+        return rowsRead;
+    }
+
+    public long getRowsCopied() {
+        return rowsCopied;
+    }
+
+    public int getRejectedCount() {
+        return rejectedCount;
+    }
+
+    public List<RejectedRow> getRejectedSample() {
+        return rejectedSample;
+    }
+
+    public double getElapsedSeconds() {
+        return elapsedNanos / 1_000_000_000.0;
+    }
+
+    public double rowsPerSecond() {
+        return elapsedNanos == 0 ? 0 : rowsCopied * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%,d rows copied, %,d rejected of %,d read in %.2f s (%,.0f rows/s)",
+                rowsCopied, rejectedCount, rowsRead, getElapsedSeconds(), rowsPerSecond());
+    }
+}
@@ -1,5 +1,7 @@
 package com.promanage.model;
 
+import com.promanage.utils.AppConfig;
+
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
@@ -10,7 +12,7 @@ public class Project {
     private String title;
     private int deadline;
     private BigDecimal revenue;
-    private String status;
+    private ProjectStatus status;
     private LocalDateTime createdAt;
 
     // Constructors
@@ -18,7 +20,7 @@ public class Project {
 
 //  Default constructor
     public Project() {
-        this.status = "PENDING";
+        this.status = ProjectStatus.PENDING;
         this.createdAt = LocalDateTime.now();
     }
 
@@ -28,12 +30,12 @@ public class Project {
         this.title = title;
         this.deadline = deadline;
         this.revenue = revenue;
-        this.status = "PENDING";
+        this.status = ProjectStatus.PENDING;
         this.createdAt = LocalDateTime.now();
     }
 
 //  Constructor with all fields (for retrieving from database)
-    public Project(int projectId, String title, int deadline, BigDecimal revenue,String status, LocalDateTime createdAt) {
+    public Project(int projectId, String title, int deadline, BigDecimal revenue, ProjectStatus status, LocalDateTime createdAt) {
         this.projectId = projectId;
         this.title = title;
         this.deadline = deadline;
@@ -75,11 +77,11 @@ public class Project {
         this.revenue = revenue;
     }
 
-    public String getStatus() {
+    public ProjectStatus getStatus() {
         return status;
     }
 
-    public void setStatus(String status) {
+    public void setStatus(ProjectStatus status) {
         this.status = status;
     }
 
@@ -100,10 +102,15 @@ public class Project {
         return String.format("Project [ID=%d, Title=%s, Deadline=%d days, Revenue=₹%.2f, Status=%s]", projectId, title, deadline, revenue, status);
     }
 
-//  Validates if the project data is valid
+//  Validates if the project data is valid for the configured planning horizon
     public boolean isValid() {
+        return isValid(AppConfig.getHorizonDays());
+    }
+
+//  Validates the project against an explicit maximum deadline (in days)
+    public boolean isValid(int maxDeadline) {
         return title != null && !title.trim().isEmpty()
-                && deadline > 0 && deadline <= 5
+                && deadline > 0 && deadline <= maxDeadline
                 && revenue != null && revenue.compareTo(BigDecimal.ZERO) > 0;
     }
 
@@ -112,4 +119,12 @@ public class Project {
     public static int compareByRevenue(Project p1, Project p2) {
         return p2.getRevenue().compareTo(p1.getRevenue());
     }
+
+//  Scheduling priority: higher revenue first, lower project ID breaks ties
+//  Matches the ORDER BY revenue DESC, project_id used for pending projects
+
+    public static int compareByPriority(Project p1, Project p2) {
+        int byRevenue = compareByRevenue(p1, p2);
+        return byRevenue != 0 ? byRevenue : Integer.compare(p1.getProjectId(), p2.getProjectId());
+    }
 }
\ No newline at end of file
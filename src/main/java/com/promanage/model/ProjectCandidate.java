@@ -0,0 +1,31 @@
+package com.promanage.model;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+//  Scheduling-only view of a pending project
+//  Carries just what the scheduler compares (id, deadline, revenue in paise),
+//  so reading it skips decoding titles, timestamps and BigDecimal revenue
+
+public record ProjectCandidate(int projectId, int deadline, long revenueCents) {
+
+    public static ProjectCandidate of(Project project) {
+        return new ProjectCandidate(project.getProjectId(), project.getDeadline(), toCents(project.getRevenue()));
+    }
+
+    public BigDecimal revenue() {
+        return BigDecimal.valueOf(revenueCents, 2);
+    }
+
+//  Scheduling priority: higher revenue first, lower project ID breaks ties
+//  Same order as Project.compareByPriority
+
+    public static int compareByPriority(ProjectCandidate c1, ProjectCandidate c2) {
+        int byRevenue = Long.compare(c2.revenueCents, c1.revenueCents);
+        return byRevenue != 0 ? byRevenue : Integer.compare(c1.projectId, c2.projectId);
+    }
+
+    public static long toCents(BigDecimal amount) {
+        return amount.movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValueExact();
+    }
+}
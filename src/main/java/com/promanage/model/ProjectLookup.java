@@ -0,0 +1,91 @@
+package com.promanage.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+//  Result of a multi-ID lookup, in the order the IDs were requested
+//  Positions whose ID does not exist hold null and are listed by
+//  getMissingIds(). An ID requested twice resolves to the same Project.
+
+public class ProjectLookup {
+
+    private final int[] requestedIds;
+    private final List<Project> projects;
+    private final int[] missingIds;
+
+    private ProjectLookup(int[] requestedIds, List<Project> projects, int[] missingIds) {
+        this.requestedIds = requestedIds;
+        this.projects = Collections.unmodifiableList(projects);
+        this.missingIds = missingIds;
+    }
+
+//  Arrange the projects found (keyed by ID) in request order
+
+    public static ProjectLookup of(int[] requestedIds, Map<Integer, Project> found) {
+        List<Project> projects = new ArrayList<>(requestedIds.length);
+        int[] missing = new int[requestedIds.length];
+        int missingCount = 0;
+        for (int projectId : requestedIds) {
+            Project project = found.get(projectId);
+            projects.add(project);
+            if (project == null) {
+                missing[missingCount++] = projectId;
+            }
+        }
+        return new ProjectLookup(requestedIds.clone(), projects, Arrays.copyOf(missing, missingCount));
+    }
+
+    public int size() {
+        return requestedIds.length;
+    }
+
+    public int getRequestedId(int index) {
+        return requestedIds[index];
+    }
+
+//  @return the project at this position, or null if its ID does not exist
+
+    public Project get(int index) {
+        return projects.get(index);
+    }
+
+    public boolean isFound(int index) {
+        return projects.get(index) != null;
+    }
+
+//  One entry per requested ID, null where the ID was not found
+
+    public List<Project> getProjects() {
+        return projects;
+    }
+
+//  The projects that exist, still in request order
+
+    public List<Project> getFound() {
+        List<Project> found = new ArrayList<>(projects.size() - missingIds.length);
+        for (Project project : projects) {
+            if (project != null) {
+                found.add(project);
+            }
+        }
+        return found;
+    }
+
+//  Requested IDs that do not exist, in request order
+
+    public int[] getMissingIds() {
+        return missingIds.clone();
+    }
+
+    public boolean isComplete() {
+        return missingIds.length == 0;
+    }
+
+    @Override
+    public String toString() {
+        return "Lookup [requested=" + requestedIds.length + ", missing=" + missingIds.length + "]";
+    }
+}
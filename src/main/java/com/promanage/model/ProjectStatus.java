@@ -0,0 +1,33 @@
+package com.promanage.model;
+
+//  Lifecycle states of a project
+//  Stored as a SMALLINT code in projects.status (see schema.sql)
+
+public enum ProjectStatus {
+
+    PENDING(0),
+    SCHEDULED(1),
+    COMPLETED(2);
+
+    private static final ProjectStatus[] BY_CODE = values();
+
+    private final short code;
+
+    ProjectStatus(int code) {
+        this.code = (short) code;
+    }
+
+    public short getCode() {
+        return code;
+    }
+
+//  Map a database code back to a status
+//  @throws IllegalArgumentException for codes outside the chk_status constraint
+
+    public static ProjectStatus fromCode(int code) {
+        if (code < 0 || code >= BY_CODE.length || BY_CODE[code].code != code) {
+            throw new IllegalArgumentException("Unknown project status code: " + code);
+        }
+        return BY_CODE[code];
+    }
+}
@@ -0,0 +1,41 @@
+package com.promanage.model;
+
+import java.math.BigDecimal;
+
+//  Count and total revenue of a group of projects that are reported in
+//  aggregate instead of one by one (e.g. unscheduled projects that were
+//  pruned before reaching the JVM)
+
+public class RevenueSummary {
+
+    public static final RevenueSummary EMPTY = new RevenueSummary(0, BigDecimal.ZERO);
+
+    private final long count;
+    private final BigDecimal totalRevenue;
+
+    public RevenueSummary(long count, BigDecimal totalRevenue) {
+        this.count = count;
+        this.totalRevenue = totalRevenue;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public BigDecimal getTotalRevenue() {
+        return totalRevenue;
+    }
+
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    public RevenueSummary plus(RevenueSummary other) {
+        return new RevenueSummary(count + other.count, totalRevenue.add(other.totalRevenue));
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d projects, ₹%,.2f", count, totalRevenue);
+    }
+}
@@ -0,0 +1,130 @@
+package com.promanage.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+//  What changed between two schedules
+//  newlyScheduled and moved come from the current schedule, dropped from the
+//  previous one (plus any unplaced projects that were scheduled before);
+//  projects on the same day in both are only counted.
+
+public class ScheduleDiff {
+
+//  A project that stays scheduled but on a different day
+    public record DayChange(ScheduledProject current, int previousDayNumber) {
+    }
+
+    private final List<ScheduledProject> newlyScheduled;
+    private final List<ScheduledProject> dropped;
+    private final List<DayChange> moved;
+    private final int unchanged;
+    private final ScheduleResult current;
+
+    private ScheduleDiff(List<ScheduledProject> newlyScheduled, List<ScheduledProject> dropped,
+                         List<DayChange> moved, int unchanged, ScheduleResult current) {
+        this.newlyScheduled = Collections.unmodifiableList(newlyScheduled);
+        this.dropped = Collections.unmodifiableList(dropped);
+        this.moved = Collections.unmodifiableList(moved);
+        this.unchanged = unchanged;
+        this.current = current;
+    }
+
+    public static ScheduleDiff between(ScheduleResult previous, ScheduleResult current) {
+        return between(previous, current, List.of());
+    }
+
+//  @param unplacedBefore projects that were scheduled before but have no day in
+//  previous; those the current schedule does not keep are dropped as well
+    public static ScheduleDiff between(ScheduleResult previous, ScheduleResult current,
+                                       List<Project> unplacedBefore) {
+        Map<Integer, ScheduledProject> before = new HashMap<>();
+        for (ScheduledProject sp : previous.getScheduledProjects()) {
+            before.put(sp.getProject().getProjectId(), sp);
+        }
+
+        List<ScheduledProject> newlyScheduled = new ArrayList<>();
+        List<DayChange> moved = new ArrayList<>();
+        int unchanged = 0;
+        for (ScheduledProject sp : current.getScheduledProjects()) {
+            ScheduledProject old = before.remove(sp.getProject().getProjectId());
+            if (old == null) {
+                newlyScheduled.add(sp);
+            } else if (old.getDayNumber() != sp.getDayNumber()) {
+                moved.add(new DayChange(sp, old.getDayNumber()));
+            } else {
+                unchanged++;
+            }
+        }
+
+        // Whatever is left was scheduled before and is not any more; keep the previous order
+        List<ScheduledProject> dropped = new ArrayList<>(before.size() + unplacedBefore.size());
+        for (ScheduledProject sp : previous.getScheduledProjects()) {
+            if (before.containsKey(sp.getProject().getProjectId())) {
+                dropped.add(sp);
+            }
+        }
+        Set<Integer> kept = new HashSet<>();
+        for (ScheduledProject sp : current.getScheduledProjects()) {
+            kept.add(sp.getProject().getProjectId());
+        }
+        for (Project project : unplacedBefore) {
+            if (!kept.contains(project.getProjectId())) {
+                dropped.add(ScheduledProject.unplaced(project));
+            }
+        }
+
+        return new ScheduleDiff(newlyScheduled, dropped, moved, unchanged, current);
+    }
+
+    public List<ScheduledProject> getNewlyScheduled() {
+        return newlyScheduled;
+    }
+
+    public List<ScheduledProject> getDropped() {
+        return dropped;
+    }
+
+    public List<DayChange> getMoved() {
+        return moved;
+    }
+
+    public int getUnchanged() {
+        return unchanged;
+    }
+
+//  The schedule the diff leads to
+    public ScheduleResult getCurrent() {
+        return current;
+    }
+
+    public boolean isEmpty() {
+        return newlyScheduled.isEmpty() && dropped.isEmpty() && moved.isEmpty();
+    }
+
+    public int[] getNewlyScheduledIds() {
+        return projectIds(newlyScheduled);
+    }
+
+    public int[] getDroppedIds() {
+        return projectIds(dropped);
+    }
+
+    private static int[] projectIds(List<ScheduledProject> projects) {
+        int[] ids = new int[projects.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = projects.get(i).getProject().getProjectId();
+        }
+        return ids;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ScheduleDiff [new=%d, dropped=%d, moved=%d, unchanged=%d]",
+                newlyScheduled.size(), dropped.size(), moved.size(), unchanged);
+    }
+}
@@ -0,0 +1,24 @@
+package com.promanage.model;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+//  One stored schedule row: a project placed on a day (and slot within the
+//  day) of the week starting on weekStartDate. dayNumber is the working day
+//  within that week (1 = Monday .. 5 = Friday), not the day of the plan. title is null once the project
+//  itself has been deleted.
+
+public record ScheduleEntry(LocalDate weekStartDate, int projectId, int dayNumber, int slot,
+                            String dayName, LocalDateTime scheduledAt, String title) {
+
+//  The calendar date of the scheduled day (day 1 = weekStartDate, day 5 = its Friday)
+    public LocalDate date() {
+        return weekStartDate.plusDays(dayNumber - 1);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s %s (Day %d, slot %d) - %s",
+                weekStartDate, dayName, dayNumber, slot, title != null ? title : "#" + projectId);
+    }
+}
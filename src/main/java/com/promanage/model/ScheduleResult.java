@@ -1,14 +1,27 @@
 package com.promanage.model;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
 public class ScheduleResult {
     private final List<ScheduledProject> scheduledProjects;
     private final List<Project> unscheduledProjects;
+    private final RevenueSummary omittedUnscheduled;
 
     public ScheduleResult(List<ScheduledProject> scheduledProjects, List<Project> unscheduledProjects) {
+        this(scheduledProjects, unscheduledProjects, RevenueSummary.EMPTY);
+    }
+
+//  @param omittedUnscheduled unscheduled projects that are not listed individually
+//                            in unscheduledProjects, reported as count and revenue
+    public ScheduleResult(List<ScheduledProject> scheduledProjects, List<Project> unscheduledProjects,
+                          RevenueSummary omittedUnscheduled) {
         this.scheduledProjects = scheduledProjects;
         this.unscheduledProjects = unscheduledProjects;
+        this.omittedUnscheduled = omittedUnscheduled;
     }
 
     public List<ScheduledProject> getScheduledProjects() {
@@ -19,15 +32,38 @@ public class ScheduleResult {
         return unscheduledProjects;
     }
 
+//  Scheduled projects grouped by 1-based day number, in day order
+    public Map<Integer, List<ScheduledProject>> getScheduledProjectsByDay() {
+        Map<Integer, List<ScheduledProject>> byDay = new TreeMap<>();
+        for (ScheduledProject sp : scheduledProjects) {
+            byDay.computeIfAbsent(sp.getDayNumber(), day -> new ArrayList<>()).add(sp);
+        }
+        return byDay;
+    }
+
+    public List<ScheduledProject> getScheduledProjectsForDay(int dayNumber) {
+        List<ScheduledProject> day = new ArrayList<>();
+        for (ScheduledProject sp : scheduledProjects) {
+            if (sp.getDayNumber() == dayNumber) {
+                day.add(sp);
+            }
+        }
+        return Collections.unmodifiableList(day);
+    }
+
+    public RevenueSummary getOmittedUnscheduled() {
+        return omittedUnscheduled;
+    }
+
     public int getTotalScheduled() {
         return scheduledProjects.size();
     }
 
-    public int getTotalUnscheduled() {
-        return unscheduledProjects.size();
+    public long getTotalUnscheduled() {
+        return unscheduledProjects.size() + omittedUnscheduled.getCount();
     }
 
     public boolean hasUnscheduledProjects() {
-        return !unscheduledProjects.isEmpty();
+        return !unscheduledProjects.isEmpty() || !omittedUnscheduled.isEmpty();
     }
 }
\ No newline at end of file
@@ -1,6 +1,11 @@
 package com.promanage.model;
 
 public class ScheduledProject {
+    private static final String[] DAY_NAMES = {"Monday", "Tuesday", "Wednesday", "Thursday", "Friday"};
+
+    // Plan days are working days; day 6 of a plan is the Monday of the following week
+    public static final int WORKING_DAYS_PER_WEEK = DAY_NAMES.length;
+
     private final Project project;
     private final int dayNumber;
     private final String dayName;
@@ -11,6 +16,20 @@ public class ScheduledProject {
         this.dayName = dayName;
     }
 
+    public ScheduledProject(Project project, int dayNumber) {
+        this(project, dayNumber, dayNameFor(dayNumber));
+    }
+
+//  A project that is marked SCHEDULED but has no day in the plan it is compared
+//  against (more projects were scheduled than the horizon holds)
+    public static ScheduledProject unplaced(Project project) {
+        return new ScheduledProject(project, 0, "no day");
+    }
+
+    public boolean isPlaced() {
+        return dayNumber > 0;
+    }
+
     public Project getProject() {
         return project;
     }
@@ -23,6 +42,12 @@ public class ScheduledProject {
         return dayName;
     }
 
+//  Working-day name for a 1-based day number
+//  Horizons longer than one week wrap around Monday to Friday
+    public static String dayNameFor(int dayNumber) {
+        return DAY_NAMES[(dayNumber - 1) % DAY_NAMES.length];
+    }
+
     @Override
     public String toString() {
         return String.format("%s (Day %d) - %s [Revenue: ₹%.2f, Deadline: %d days]",
@@ -0,0 +1,26 @@
+package com.promanage.model;
+
+import java.util.List;
+
+//  Pending projects that can still make a schedule, plus an aggregate of the
+//  ones that were pruned because they can never fit
+
+public class SchedulingCandidates {
+
+    private final List<ProjectCandidate> candidates;
+    private final RevenueSummary pruned;
+
+    public SchedulingCandidates(List<ProjectCandidate> candidates, RevenueSummary pruned) {
+        this.candidates = candidates;
+        this.pruned = pruned;
+    }
+
+//  Candidates ordered by revenue (descending), ties by project ID
+    public List<ProjectCandidate> getCandidates() {
+        return candidates;
+    }
+
+    public RevenueSummary getPruned() {
+        return pruned;
+    }
+}
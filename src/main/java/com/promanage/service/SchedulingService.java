@@ -1,72 +1,459 @@
 package com.promanage.service;
 
+import com.promanage.dao.DataAccessException;
 import com.promanage.dao.ProjectDAO;
 import com.promanage.dao.ProjectDAOImpl;
+import com.promanage.dao.ScheduleDAO;
+import com.promanage.dao.ScheduleDAOImpl;
 import com.promanage.model.Project;
+import com.promanage.model.ProjectCandidate;
+import com.promanage.model.ProjectStatus;
+import com.promanage.model.RevenueSummary;
+import com.promanage.model.ScheduleDiff;
 import com.promanage.model.ScheduleResult;
+import com.promanage.model.SchedulingCandidates;
 import com.promanage.model.ScheduledProject;
+import com.promanage.service.engine.GreedySchedulingEngine;
+import com.promanage.service.engine.IncrementalScheduler;
+import com.promanage.service.engine.SchedulePlan;
+import com.promanage.service.engine.SchedulingEngine;
+import com.promanage.service.engine.SchedulingEngineType;
+import com.promanage.service.engine.SlotAllocator;
+import com.promanage.service.engine.SlotAllocatorType;
+import com.promanage.store.ColumnarProjectStore;
+import com.promanage.store.ColumnarScheduler;
+import com.promanage.store.ProjectColumns;
+import com.promanage.utils.AppConfig;
 
 import java.math.BigDecimal;
 import java.sql.SQLException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 
 public class SchedulingService {
 
     private final ProjectDAO projectDAO;
-    private static final int MAX_DAYS = 5; // Monday to Friday
-    private static final String[] DAY_NAMES = {"Monday", "Tuesday", "Wednesday", "Thursday", "Friday"};
+    private final SchedulingEngine schedulingEngine;
+    private final ScheduleDAO scheduleDAO; // null unless schedules are persisted
+    private final boolean candidatePushdown;
+    private final boolean incremental;
+    private IncrementalScheduler incrementalScheduler;
+    private ScheduleResult lastResult;
+
+    private final boolean memoizeResults;
+    private final Object memoLock = new Object();
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    private volatile ComputedSchedule memoized;
+    private ExecutorService refreshExecutor;
 
     public SchedulingService() {
-        this.projectDAO = new ProjectDAOImpl();
+        this(SchedulingEngineType.fromConfig().create(AppConfig.getHorizonDays(), AppConfig.getDayCapacity()));
+    }
+
+    public SchedulingService(ProjectDAO projectDAO) {
+        this(projectDAO,
+                SchedulingEngineType.fromConfig().create(AppConfig.getHorizonDays(), AppConfig.getDayCapacity()));
+    }
+
+    public SchedulingService(int horizonDays) {
+        this(horizonDays, SlotAllocatorType.fromConfig());
+    }
+
+    public SchedulingService(int horizonDays, SlotAllocator.Factory allocatorFactory) {
+        this(new GreedySchedulingEngine(horizonDays, AppConfig.getDayCapacity(), allocatorFactory));
+    }
+
+    public SchedulingService(SchedulingEngine schedulingEngine) {
+        this(new ProjectDAOImpl(), schedulingEngine);
+    }
+
+    public SchedulingService(ProjectDAO projectDAO, SchedulingEngine schedulingEngine) {
+        this(projectDAO, schedulingEngine, AppConfig.isSchedulePersistenceEnabled() ? new ScheduleDAOImpl() : null);
+    }
+
+//  @param scheduleDAO where generated schedules are stored, or null to keep them in memory only
+    public SchedulingService(ProjectDAO projectDAO, SchedulingEngine schedulingEngine, ScheduleDAO scheduleDAO) {
+        this.projectDAO = projectDAO;
+        this.schedulingEngine = schedulingEngine;
+        this.scheduleDAO = scheduleDAO;
+        this.candidatePushdown = AppConfig.isCandidatePushdownEnabled();
+        this.incremental = AppConfig.isIncrementalSchedulingEnabled();
+        this.memoizeResults = AppConfig.isResultMemoizationEnabled();
+    }
+
+    public int getHorizonDays() {
+        return schedulingEngine.getHorizonDays();
+    }
+
+    public int getDayCapacity() {
+        return schedulingEngine.getDayCapacity();
+    }
+
+    // Heading for a printed schedule, e.g. "WEEKLY SCHEDULE (Monday - Friday, 1 project/day)"
+    // or "2-WEEK SCHEDULE (7 working days, Monday - Tuesday of week 2, 2 projects/day)"
+    public String getScheduleHeading() {
+        int horizonDays = getHorizonDays();
+        int weeks = (horizonDays + ScheduledProject.WORKING_DAYS_PER_WEEK - 1) / ScheduledProject.WORKING_DAYS_PER_WEEK;
+        String lastDay = ScheduledProject.dayNameFor(horizonDays);
+        String perDay = getDayCapacity() + (getDayCapacity() == 1 ? " project/day" : " projects/day");
+        if (weeks == 1) {
+            return "WEEKLY SCHEDULE (Monday - " + lastDay + ", " + perDay + ")";
+        }
+        return weeks + "-WEEK SCHEDULE (" + horizonDays + " working days, Monday - " + lastDay + " of week " + weeks
+                + ", " + perDay + ")";
     }
 
     public ScheduleResult generateSchedule() throws SQLException {
-        List<Project> pendingProjects = projectDAO.getPendingProjects();
+        SchedulePlan plan;
+        ScheduleResult result;
+
+        if (incremental) {
+            plan = liveScheduler().getPlan();
+            result = toScheduleResult(plan, RevenueSummary.EMPTY);
+        } else {
+            // A memoized schedule is only reused if it matches the current version exactly
+            ComputedSchedule computed = memoizeResults ? memoizedSchedule(false) : computeSchedule(0);
+            plan = computed.plan;
+            result = computed.result;
+        }
+
+        persistScheduledStatuses(plan);
+        // Only pending projects were planned; what earlier runs stored stays
+        if (scheduleDAO != null) {
+            scheduleDAO.addToSchedule(plannedWeekStart(), result);
+        }
+        lastResult = result;
+
+        if (incrementalScheduler != null) {
+            // Scheduled projects have left the pending set
+            for (int projectId : plan.getScheduledIds()) {
+                incrementalScheduler.projectRemoved(projectId);
+            }
+        }
+        return result;
+    }
 
-        if (pendingProjects.isEmpty()) {
-            return new ScheduleResult(new ArrayList<>(), new ArrayList<>());
+    // Plans the current pending set; nothing is persisted
+    private ComputedSchedule computeSchedule(long version) throws SQLException {
+        SchedulePlan plan;
+        RevenueSummary pruned = RevenueSummary.EMPTY;
+
+        if (candidatePushdown) {
+            // Only candidates leave the database; pruned projects come back as a summary
+            SchedulingCandidates candidates = projectDAO.getSchedulingCandidates(getHorizonDays(), getDayCapacity());
+            plan = schedulingEngine.schedule(candidates.getCandidates());
+            pruned = candidates.getPruned();
+        } else {
+            plan = planPendingProjects();
+        }
+
+        return new ComputedSchedule(version, plan, toScheduleResult(plan, pruned));
+    }
+
+    // The schedule for the current pending-set version, computed at most once per
+    // version. With allowStale, a caller arriving after the version moved gets the
+    // previous schedule while a background thread computes the new one.
+    private ComputedSchedule memoizedSchedule(boolean allowStale) throws SQLException {
+        long version = projectDAO.getPendingSetVersion();
+        ComputedSchedule current = memoized;
+        if (current != null && current.version == version) {
+            return current;
+        }
+        if (current != null && allowStale) {
+            refreshInBackground();
+            return current;
+        }
+        return recompute(version);
+    }
+
+    // The version is read before the data, so a write racing with the computation
+    // only makes the result look older than it is and triggers another recompute
+    private ComputedSchedule recompute(long version) throws SQLException {
+        synchronized (memoLock) {
+            ComputedSchedule current = memoized;
+            if (current != null && current.version >= version) {
+                return current;
+            }
+            ComputedSchedule computed = computeSchedule(version);
+            memoized = computed;
+            return computed;
+        }
+    }
+
+    private void refreshInBackground() {
+        if (!refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            refreshExecutor().execute(() -> {
+                try {
+                    recompute(projectDAO.getPendingSetVersion());
+                } catch (SQLException | RuntimeException e) {
+                    System.err.println("⚠️  Background schedule refresh failed: " + e.getMessage());
+                } finally {
+                    refreshing.set(false);
+                }
+            });
+        } catch (RuntimeException e) {
+            refreshing.set(false);
+            throw e;
         }
+    }
+
+    private synchronized ExecutorService refreshExecutor() {
+        if (refreshExecutor == null) {
+            refreshExecutor = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "promanage-schedule-refresh");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return refreshExecutor;
+    }
+
+    private static final class ComputedSchedule {
+
+        private final long version;
+        private final SchedulePlan plan;
+        private final ScheduleResult result;
+
+        private ComputedSchedule(long version, SchedulePlan plan, ScheduleResult result) {
+            this.version = version;
+            this.plan = plan;
+            this.result = result;
+        }
+    }
 
-        Project[] schedule = new Project[MAX_DAYS];
+    // Re-plans over pending and already scheduled projects together and writes
+    // only the difference (newly scheduled / dropped) in one transaction, instead
+    // of resetting every status and scheduling again. Day moves are reported in
+    // the diff; they need no write because only statuses are persisted.
+    public ScheduleDiff reschedule() throws SQLException {
+        List<ProjectCandidate> scheduledBefore = readCandidates(ProjectStatus.SCHEDULED);
+        List<ProjectCandidate> candidates = readCandidates(ProjectStatus.PENDING);
+        candidates.addAll(scheduledBefore);
 
-        List<Project> scheduledProjects = new ArrayList<>();
-        List<Project> unscheduledProjects = new ArrayList<>();
+        ScheduleResult previous = lastResult;
+        if (previous == null || !isSameSelection(previous, scheduledBefore)) {
+            // Days depend only on the selected set, so placing the scheduled
+            // projects again reproduces the days they were given
+            previous = toScheduleResult(schedule(scheduledBefore), RevenueSummary.EMPTY);
+        }
 
-        for (Project project : pendingProjects) {
-            int deadline = project.getDeadline();
+        ScheduleResult current = toScheduleResult(schedule(candidates), RevenueSummary.EMPTY);
+        // Dropped is taken from the SCHEDULED set that was read: projects the
+        // previous plan had no day for (repeated generates can schedule more than
+        // the horizon holds) are dropped too unless the new plan keeps them
+        ScheduleDiff diff = ScheduleDiff.between(previous, current, unplacedProjects(scheduledBefore, previous));
 
-            int scheduledDay = findLatestAvailableSlot(schedule, deadline);
+        if (!diff.getNewlyScheduled().isEmpty() || !diff.getDropped().isEmpty()) {
+            int expected = diff.getNewlyScheduled().size() + diff.getDropped().size();
+            int changed = projectDAO.applyScheduleDelta(diff.getNewlyScheduledIds(), diff.getDroppedIds());
+            if (changed != expected) {
+                System.err.println("⚠️  Expected to change " + expected + " statuses but changed " + changed);
+            }
+        }
+
+        // Every scheduled project was re-planned, so the stored plan is replaced
+        if (scheduleDAO != null) {
+            scheduleDAO.replaceSchedule(plannedWeekStart(), current);
+        }
+        lastResult = current;
+        invalidateLivePlan();
+        return diff;
+    }
 
-            if (scheduledDay != -1) {
-                schedule[scheduledDay] = project;
-                scheduledProjects.add(project);
+    // Day 1 of a stored plan: the coming Monday, or today on a Monday
+    public static LocalDate plannedWeekStart() {
+        return LocalDate.now().with(TemporalAdjusters.nextOrSame(DayOfWeek.MONDAY));
+    }
 
-                projectDAO.updateProjectStatus(project.getProjectId(), "SCHEDULED");
-            } else {
-                unscheduledProjects.add(project);
+    // The scheduled projects that have no day in the given plan
+    private List<Project> unplacedProjects(List<ProjectCandidate> scheduled, ScheduleResult plan)
+            throws SQLException {
+        Set<Integer> placed = new HashSet<>(plan.getTotalScheduled() * 2);
+        for (ScheduledProject sp : plan.getScheduledProjects()) {
+            placed.add(sp.getProject().getProjectId());
+        }
+        List<ProjectCandidate> unplaced = new ArrayList<>();
+        for (ProjectCandidate candidate : scheduled) {
+            if (!placed.contains(candidate.projectId())) {
+                unplaced.add(candidate);
             }
         }
+        if (unplaced.isEmpty()) {
+            return List.of();
+        }
+
+        int[] ids = new int[unplaced.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = unplaced.get(i).projectId();
+        }
+        Map<Integer, String> titles = projectDAO.getProjectTitles(ids);
+        List<Project> projects = new ArrayList<>(unplaced.size());
+        for (ProjectCandidate candidate : unplaced) {
+            projects.add(toProject(candidate, titles, ProjectStatus.SCHEDULED));
+        }
+        return projects;
+    }
 
-        List<ScheduledProject> finalSchedule = new ArrayList<>();
-        for (int day = 0; day < MAX_DAYS; day++) {
-            if (schedule[day] != null) {
-                finalSchedule.add(new ScheduledProject(schedule[day], day + 1, DAY_NAMES[day]));
+    private static boolean isSameSelection(ScheduleResult result, List<ProjectCandidate> scheduled) {
+        if (result.getTotalScheduled() != scheduled.size()) {
+            return false;
+        }
+        Set<Integer> ids = new HashSet<>(scheduled.size() * 2);
+        for (ProjectCandidate candidate : scheduled) {
+            ids.add(candidate.projectId());
+        }
+        for (ScheduledProject sp : result.getScheduledProjects()) {
+            if (!ids.contains(sp.getProject().getProjectId())) {
+                return false;
             }
         }
+        return true;
+    }
+
+    private List<ProjectCandidate> readCandidates(ProjectStatus status) throws SQLException {
+        try (Stream<ProjectCandidate> candidates = projectDAO.streamCandidatesByStatus(status)) {
+            return candidates.collect(Collectors.toCollection(ArrayList::new));
+        } catch (DataAccessException e) {
+            throw e.getCause();
+        }
+    }
+
+    private SchedulePlan schedule(List<ProjectCandidate> candidates) {
+        if (schedulingEngine.requiresRevenueOrder()) {
+            candidates.sort(ProjectCandidate::compareByPriority);
+        }
+        return schedulingEngine.schedule(candidates);
+    }
+
+    // The current schedule without persisting anything: the live plan when
+    // incremental, otherwise the memoized schedule (possibly one version behind
+    // while a refresh runs) or a fresh computation
+    public ScheduleResult previewSchedule() throws SQLException {
+        if (incremental) {
+            return toScheduleResult(liveScheduler().getPlan(), RevenueSummary.EMPTY);
+        }
+        return memoizeResults ? memoizedSchedule(true).result : computeSchedule(0).result;
+    }
+
+    // Events from this application that change the pending set; ignored until
+    // the live plan has been seeded
+    public void projectAdded(Project project) {
+        if (incrementalScheduler != null && project.getStatus() == ProjectStatus.PENDING) {
+            incrementalScheduler.projectAdded(ProjectCandidate.of(project));
+        }
+    }
 
-        return new ScheduleResult(finalSchedule, unscheduledProjects);
+    public void projectRevenueChanged(int projectId, BigDecimal revenue) {
+        if (incrementalScheduler != null && incrementalScheduler.contains(projectId)) {
+            incrementalScheduler.revenueChanged(projectId, ProjectCandidate.toCents(revenue));
+        }
     }
 
+    public void projectRemoved(int projectId) {
+        if (incrementalScheduler != null) {
+            incrementalScheduler.projectRemoved(projectId);
+        }
+    }
+
+    // Drop the live plan; the next run re-reads the pending set
+    public void invalidateLivePlan() {
+        incrementalScheduler = null;
+    }
 
-    private int findLatestAvailableSlot(Project[] schedule, int deadline) {
-        for (int day = deadline - 1; day >= 0; day--) {
-            if (schedule[day] == null) {
-                return day; // Found available slot
+    // Seeded from one unordered read of the pending set, then kept up to date by events
+    private IncrementalScheduler liveScheduler() throws SQLException {
+        if (incrementalScheduler == null) {
+            IncrementalScheduler scheduler = new IncrementalScheduler(getHorizonDays(), getDayCapacity());
+            try (Stream<ProjectCandidate> pendingProjects = projectDAO.streamPendingCandidatesUnordered()) {
+                scheduler.addAll(pendingProjects::iterator);
+            } catch (DataAccessException e) {
+                throw e.getCause();
             }
+            incrementalScheduler = scheduler;
         }
-        return -1;
+        return incrementalScheduler;
+    }
+
+    // The engine only sees id/deadline/revenue projections of the pending set
+    private SchedulePlan planPendingProjects() throws SQLException {
+        try (Stream<ProjectCandidate> pendingProjects = schedulingEngine.requiresRevenueOrder()
+                ? projectDAO.streamPendingCandidates()
+                : projectDAO.streamPendingCandidatesUnordered()) {
+            return schedulingEngine.schedule(pendingProjects::iterator);
+        } catch (DataAccessException e) {
+            throw e.getCause();
+        }
+    }
+
+    // Persist every status transition at once, after the plan is complete
+    private void persistScheduledStatuses(SchedulePlan plan) throws SQLException {
+        int[] scheduledIds = plan.getScheduledIds();
+        if (scheduledIds.length == 0) {
+            return;
+        }
+
+        int updated = projectDAO.updateProjectStatuses(scheduledIds, ProjectStatus.SCHEDULED);
+        if (updated != scheduledIds.length) {
+            System.err.println("⚠️  Expected to schedule " + scheduledIds.length
+                    + " projects but updated " + updated);
+        }
+    }
+
+    // Titles are loaded only now, for the projects the result actually lists
+    private ScheduleResult toScheduleResult(SchedulePlan plan, RevenueSummary prunedUnscheduled)
+            throws SQLException {
+        List<ProjectCandidate> scheduled = plan.getScheduled();
+        List<ProjectCandidate> unscheduled = plan.getUnscheduled();
+
+        int[] listedIds = new int[scheduled.size() + unscheduled.size()];
+        int n = 0;
+        for (ProjectCandidate candidate : scheduled) {
+            listedIds[n++] = candidate.projectId();
+        }
+        for (ProjectCandidate candidate : unscheduled) {
+            listedIds[n++] = candidate.projectId();
+        }
+        Map<Integer, String> titles = projectDAO.getProjectTitles(listedIds);
+
+        List<ScheduledProject> scheduledProjects = new ArrayList<>(scheduled.size());
+        for (int i = 0; i < scheduled.size(); i++) {
+            Project project = toProject(scheduled.get(i), titles, ProjectStatus.SCHEDULED);
+            scheduledProjects.add(new ScheduledProject(project, plan.getDayNumber(i)));
+        }
+
+        List<Project> unscheduledProjects = new ArrayList<>(unscheduled.size());
+        for (ProjectCandidate candidate : unscheduled) {
+            unscheduledProjects.add(toProject(candidate, titles, ProjectStatus.PENDING));
+        }
+
+        RevenueSummary omitted = new RevenueSummary(plan.getOmittedCount(), plan.getOmittedRevenue())
+                .plus(prunedUnscheduled);
+        return new ScheduleResult(scheduledProjects, unscheduledProjects, omitted);
+    }
+
+    private static Project toProject(ProjectCandidate candidate, Map<Integer, String> titles, ProjectStatus status) {
+        return new Project(candidate.projectId(), titles.get(candidate.projectId()),
+                candidate.deadline(), candidate.revenue(), status, null);
+    }
+
+    // Plans over an in-memory column store; nothing is read from or written to the database
+    public SchedulePlan planSchedule(ProjectColumns columns) {
+        return new ColumnarScheduler(getHorizonDays(), getDayCapacity()).schedule(columns);
     }
 
     public BigDecimal calculateTotalRevenue(List<ScheduledProject> scheduledProjects) {
@@ -78,6 +465,12 @@ public class SchedulingService {
     }
 
 
+    // Includes unscheduled projects the engine only reported in aggregate
+    public BigDecimal calculateLostRevenue(ScheduleResult result) {
+        return calculateLostRevenue(result.getUnscheduledProjects())
+                .add(result.getOmittedUnscheduled().getTotalRevenue());
+    }
+
     public BigDecimal calculateLostRevenue(List<Project> unscheduledProjects) {
         BigDecimal lost = BigDecimal.ZERO;
         for (Project p : unscheduledProjects) {
@@ -86,13 +479,16 @@ public class SchedulingService {
         return lost;
     }
 
-    public void resetAllProjectStatus() throws SQLException {
-        List<Project> allProjects = projectDAO.getAllProjects();
-        for (Project project : allProjects) {
-            if ("SCHEDULED".equals(project.getStatus())) {
-                projectDAO.updateProjectStatus(project.getProjectId(), "PENDING");
-            }
-        }
-        System.out.println("✓ All project statuses reset to PENDING");
+    // Column totals are summed as long paise and converted once
+    public BigDecimal calculateTotalRevenue(ColumnarProjectStore store, ProjectStatus status) {
+        return BigDecimal.valueOf(store.totalRevenueCents(status), 2);
+    }
+
+    public int resetAllProjectStatus() throws SQLException {
+        int reset = projectDAO.transitionStatus(ProjectStatus.SCHEDULED, ProjectStatus.PENDING);
+        invalidateLivePlan();
+        lastResult = null;
+        System.out.println("✓ " + reset + " project statuses reset to PENDING");
+        return reset;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,80 @@
+package com.promanage.service;
+
+import com.promanage.dao.InMemoryProjectDAO;
+import com.promanage.model.Project;
+import com.promanage.model.ProjectStatus;
+import com.promanage.model.ScheduleDiff;
+import com.promanage.model.ScheduledProject;
+import com.promanage.service.engine.GreedySchedulingEngine;
+import com.promanage.service.engine.SlotAllocatorType;
+
+import java.math.BigDecimal;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+//  Checks reschedule() after repeated generates have scheduled more projects
+//  than the horizon holds: the overflow must be reported as dropped and reset
+//  to PENDING, leaving exactly the re-planned projects SCHEDULED.
+//  Runs on InMemoryProjectDAO, no database needed.
+public class TestReschedule {
+
+    public static void main(String[] args) throws Exception {
+        System.out.println("=== Testing Reschedule After Repeated Generates ===\n");
+
+        int horizonDays = 5;
+        int dayCapacity = 1;
+        InMemoryProjectDAO projectDAO = new InMemoryProjectDAO();
+        SchedulingService schedulingService = new SchedulingService(projectDAO,
+                new GreedySchedulingEngine(horizonDays, dayCapacity, SlotAllocatorType.ARRAY_SCAN), null);
+
+        for (int i = 1; i <= 2 * horizonDays * dayCapacity; i++) {
+            projectDAO.addProject(new Project("Project " + i, horizonDays, new BigDecimal(1000 * i)));
+        }
+        schedulingService.generateSchedule();
+        schedulingService.generateSchedule();
+        int scheduledBefore = count(projectDAO, ProjectStatus.SCHEDULED);
+        System.out.println("  SCHEDULED after two generates: " + scheduledBefore);
+
+        ScheduleDiff diff = schedulingService.reschedule();
+        System.out.println("  " + diff);
+
+        Set<Integer> planned = new HashSet<>();
+        for (ScheduledProject sp : diff.getCurrent().getScheduledProjects()) {
+            planned.add(sp.getProject().getProjectId());
+        }
+        Set<Integer> scheduledAfter = new HashSet<>();
+        for (Project project : projectDAO.getAllProjects()) {
+            if (project.getStatus() == ProjectStatus.SCHEDULED) {
+                scheduledAfter.add(project.getProjectId());
+            }
+        }
+        System.out.println("  SCHEDULED after reschedule: " + scheduledAfter.size()
+                + ", planned: " + planned.size());
+
+        boolean passed = scheduledBefore == 2 * horizonDays * dayCapacity
+                && diff.getDropped().size() == scheduledBefore - planned.size()
+                && scheduledAfter.equals(planned);
+
+        // A second reschedule has nothing left to change
+        ScheduleDiff again = schedulingService.reschedule();
+        passed &= again.isEmpty();
+
+        if (passed) {
+            System.out.println("\n✓ Overflow was dropped; statuses match the new plan!");
+        } else {
+            System.err.println("\n✗ Reschedule left statuses out of step with the plan!");
+        }
+    }
+
+    private static int count(InMemoryProjectDAO projectDAO, ProjectStatus status) {
+        List<Project> all = projectDAO.getAllProjects();
+        int count = 0;
+        for (Project project : all) {
+            if (project.getStatus() == status) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -29,7 +29,7 @@ public class TestSchedulingService {
 
             // Display scheduled projects
             System.out.println("═══════════════════════════════════════════════════════");
-            System.out.println("        📅 WEEKLY SCHEDULE (Monday - Friday)");
+            System.out.println("        📅 " + schedulingService.getScheduleHeading());
             System.out.println("═══════════════════════════════════════════════════════\n");
 
             if (result.getScheduledProjects().isEmpty()) {
@@ -45,7 +45,7 @@ public class TestSchedulingService {
             System.out.println("        ⚠️  UNSCHEDULED PROJECTS");
             System.out.println("═══════════════════════════════════════════════════════\n");
 
-            if (result.getUnscheduledProjects().isEmpty()) {
+            if (!result.hasUnscheduledProjects()) {
                 System.out.println("✓ All projects scheduled successfully!");
             } else {
                 System.out.println("The following projects could not be scheduled:\n");
@@ -62,10 +62,10 @@ public class TestSchedulingService {
             System.out.println("═══════════════════════════════════════════════════════\n");
 
             BigDecimal totalRevenue = schedulingService.calculateTotalRevenue(result.getScheduledProjects());
-            BigDecimal lostRevenue = schedulingService.calculateLostRevenue(result.getUnscheduledProjects());
+            BigDecimal lostRevenue = schedulingService.calculateLostRevenue(result);
 
-            System.out.println("Total Projects Scheduled : " + result.getScheduledProjects().size());
-            System.out.println("Projects Not Scheduled   : " + result.getUnscheduledProjects().size());
+            System.out.println("Total Projects Scheduled : " + result.getTotalScheduled());
+            System.out.println("Projects Not Scheduled   : " + result.getTotalUnscheduled());
             System.out.println("Expected Revenue         : ₹" + String.format("%,.2f", totalRevenue));
             System.out.println("Lost Revenue             : ₹" + String.format("%,.2f", lostRevenue));
 
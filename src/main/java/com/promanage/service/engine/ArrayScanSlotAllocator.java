@@ -0,0 +1,40 @@
+package com.promanage.service.engine;
+
+//  Reference allocator: scans the day array backwards from the deadline
+//  O(horizon) per allocation; kept to cross-check faster allocators
+
+public class ArrayScanSlotAllocator implements SlotAllocator {
+
+    private final int[] used;
+    private final int dayCapacity;
+
+    public ArrayScanSlotAllocator(int horizonDays) {
+        this(horizonDays, 1);
+    }
+
+    public ArrayScanSlotAllocator(int horizonDays, int dayCapacity) {
+        this.used = new int[horizonDays];
+        this.dayCapacity = dayCapacity;
+    }
+
+    @Override
+    public int allocate(int deadline) {
+        for (int day = Math.min(deadline, used.length) - 1; day >= 0; day--) {
+            if (used[day] < dayCapacity) {
+                used[day]++;
+                return day; // Found available slot
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int getHorizonDays() {
+        return used.length;
+    }
+
+    @Override
+    public int getDayCapacity() {
+        return dayCapacity;
+    }
+}
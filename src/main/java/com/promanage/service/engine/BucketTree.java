@@ -0,0 +1,58 @@
+package com.promanage.service.engine;
+
+import com.promanage.model.ProjectCandidate;
+
+import java.util.Comparator;
+
+//  One representative candidate per deadline bucket, with range "winner" queries
+//  The winner is the smallest element under the given order (e.g. the worst
+//  selected project, or the best unselected one). Bottom-up segment tree.
+
+class BucketTree {
+
+    private final int leaves;
+    private final ProjectCandidate[] tree;
+    private final Comparator<ProjectCandidate> order;
+
+    BucketTree(int buckets, Comparator<ProjectCandidate> order) {
+        int n = 1;
+        while (n < buckets) {
+            n <<= 1;
+        }
+        this.leaves = n;
+        this.tree = new ProjectCandidate[2 * n];
+        this.order = order;
+    }
+
+    void set(int bucket, ProjectCandidate representative) {
+        int node = bucket + leaves;
+        tree[node] = representative;
+        for (node >>>= 1; node > 0; node >>>= 1) {
+            tree[node] = pick(tree[2 * node], tree[2 * node + 1]);
+        }
+    }
+
+    // Winner among buckets from..to (inclusive), or null if all are empty
+    ProjectCandidate query(int from, int to) {
+        ProjectCandidate best = null;
+        for (int lo = from + leaves, hi = to + leaves + 1; lo < hi; lo >>>= 1, hi >>>= 1) {
+            if ((lo & 1) == 1) {
+                best = pick(best, tree[lo++]);
+            }
+            if ((hi & 1) == 1) {
+                best = pick(best, tree[--hi]);
+            }
+        }
+        return best;
+    }
+
+    private ProjectCandidate pick(ProjectCandidate a, ProjectCandidate b) {
+        if (a == null) {
+            return b;
+        }
+        if (b == null) {
+            return a;
+        }
+        return order.compare(a, b) <= 0 ? a : b;
+    }
+}
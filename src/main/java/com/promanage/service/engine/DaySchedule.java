@@ -0,0 +1,51 @@
+package com.promanage.service.engine;
+
+import com.promanage.model.ProjectCandidate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+//  Per-day buckets of placed candidates, flattened in day order once an engine
+//  is done. Candidates sharing a day keep the order in which they were placed.
+
+class DaySchedule {
+
+    private final List<List<ProjectCandidate>> days;
+    private int size;
+
+    DaySchedule(int horizonDays) {
+        this.days = new ArrayList<>(horizonDays);
+        for (int day = 0; day < horizonDays; day++) {
+            days.add(null);
+        }
+    }
+
+    void add(int day, ProjectCandidate candidate) {
+        List<ProjectCandidate> bucket = days.get(day);
+        if (bucket == null) {
+            bucket = new ArrayList<>(1);
+            days.set(day, bucket);
+        }
+        bucket.add(candidate);
+        size++;
+    }
+
+    SchedulePlan toPlan(List<ProjectCandidate> unscheduled, long omittedCount, long omittedRevenueCents) {
+        List<ProjectCandidate> scheduled = new ArrayList<>(size);
+        int[] dayNumbers = new int[size];
+        for (int day = 0; day < days.size(); day++) {
+            List<ProjectCandidate> bucket = days.get(day);
+            if (bucket != null) {
+                for (ProjectCandidate candidate : bucket) {
+                    dayNumbers[scheduled.size()] = day + 1;
+                    scheduled.add(candidate);
+                }
+            }
+        }
+        return new SchedulePlan(scheduled, dayNumbers, unscheduled, omittedCount, omittedRevenueCents);
+    }
+
+    SchedulePlan toPlan(List<ProjectCandidate> unscheduled) {
+        return toPlan(unscheduled, 0, 0);
+    }
+}
@@ -0,0 +1,67 @@
+package com.promanage.service.engine;
+
+//  Union-find slot allocator
+//  parent[d] points towards the latest day <= d (1-based, 0 = none) that still
+//  has capacity. A day is linked to the day before it once its last slot is
+//  claimed, and path compression keeps every lookup near O(1) amortized, so
+//  n allocations cost O(n α(horizon)).
+
+public class DisjointSetSlotAllocator implements SlotAllocator {
+
+    private final int[] parent;
+    private final int[] remaining;
+    private final int dayCapacity;
+
+    public DisjointSetSlotAllocator(int horizonDays) {
+        this(horizonDays, 1);
+    }
+
+    public DisjointSetSlotAllocator(int horizonDays, int dayCapacity) {
+        this.parent = new int[horizonDays + 1];
+        this.remaining = new int[horizonDays + 1];
+        this.dayCapacity = dayCapacity;
+        for (int day = 0; day <= horizonDays; day++) {
+            parent[day] = day;
+            remaining[day] = dayCapacity;
+        }
+    }
+
+    @Override
+    public int allocate(int deadline) {
+        if (deadline <= 0) {
+            return -1;
+        }
+        int freeDay = find(Math.min(deadline, getHorizonDays()));
+        if (freeDay == 0) {
+            return -1;
+        }
+        if (--remaining[freeDay] == 0) {
+            parent[freeDay] = freeDay - 1;
+        }
+        return freeDay - 1;
+    }
+
+    @Override
+    public int getHorizonDays() {
+        return parent.length - 1;
+    }
+
+    @Override
+    public int getDayCapacity() {
+        return dayCapacity;
+    }
+
+    private int find(int day) {
+        int root = day;
+        while (parent[root] != root) {
+            root = parent[root];
+        }
+        // Path compression
+        while (parent[day] != root) {
+            int next = parent[day];
+            parent[day] = root;
+            day = next;
+        }
+        return root;
+    }
+}
@@ -0,0 +1,63 @@
+package com.promanage.service.engine;
+
+import com.promanage.model.ProjectCandidate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+//  Classic greedy job sequencing with deadlines
+//  Expects projects ordered by revenue (descending), as returned by
+//  ProjectDAO.streamPendingCandidates(), and places each one on the latest day
+//  before its deadline that still has capacity.
+
+public class GreedySchedulingEngine implements SchedulingEngine {
+
+    private final int horizonDays;
+    private final int dayCapacity;
+    private final SlotAllocator.Factory allocatorFactory;
+
+    public GreedySchedulingEngine(int horizonDays, SlotAllocator.Factory allocatorFactory) {
+        this(horizonDays, 1, allocatorFactory);
+    }
+
+    public GreedySchedulingEngine(int horizonDays, int dayCapacity, SlotAllocator.Factory allocatorFactory) {
+        if (horizonDays <= 0) {
+            throw new IllegalArgumentException("Horizon must be at least one day: " + horizonDays);
+        }
+        if (dayCapacity <= 0) {
+            throw new IllegalArgumentException("Day capacity must be at least one: " + dayCapacity);
+        }
+        this.horizonDays = horizonDays;
+        this.dayCapacity = dayCapacity;
+        this.allocatorFactory = allocatorFactory;
+    }
+
+    @Override
+    public SchedulePlan schedule(Iterable<ProjectCandidate> pendingProjects) {
+        SlotAllocator allocator = allocatorFactory.create(horizonDays, dayCapacity);
+        DaySchedule schedule = new DaySchedule(horizonDays);
+        List<ProjectCandidate> unscheduledProjects = new ArrayList<>();
+
+        for (ProjectCandidate project : pendingProjects) {
+            int scheduledDay = allocator.allocate(project.deadline());
+
+            if (scheduledDay != -1) {
+                schedule.add(scheduledDay, project);
+            } else {
+                unscheduledProjects.add(project);
+            }
+        }
+
+        return schedule.toPlan(unscheduledProjects);
+    }
+
+    @Override
+    public int getHorizonDays() {
+        return horizonDays;
+    }
+
+    @Override
+    public int getDayCapacity() {
+        return dayCapacity;
+    }
+}
@@ -0,0 +1,117 @@
+package com.promanage.service.engine;
+
+import com.promanage.model.ProjectCandidate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.PriorityQueue;
+
+//  Multi-capacity scheduler in O(n log n)
+//  Projects are bucketed by deadline and swept in ascending deadline order
+//  while a min-heap holds the current selection. After each deadline d the
+//  heap is trimmed to dayCapacity * d entries by dropping the lowest revenue,
+//  which leaves the revenue-maximizing feasible set. Selected projects are
+//  then placed on days exactly as the greedy engine would place them.
+//
+//  Ties on revenue are broken by input position (earlier wins), so with
+//  revenue-ordered input the result matches GreedySchedulingEngine exactly.
+
+public class HeapSchedulingEngine implements SchedulingEngine {
+
+    private final int horizonDays;
+    private final int dayCapacity;
+
+    public HeapSchedulingEngine(int horizonDays, int dayCapacity) {
+        if (horizonDays <= 0) {
+            throw new IllegalArgumentException("Horizon must be at least one day: " + horizonDays);
+        }
+        if (dayCapacity <= 0) {
+            throw new IllegalArgumentException("Day capacity must be at least one: " + dayCapacity);
+        }
+        this.horizonDays = horizonDays;
+        this.dayCapacity = dayCapacity;
+    }
+
+    @Override
+    public SchedulePlan schedule(Iterable<ProjectCandidate> pendingProjects) {
+        List<ProjectCandidate> projects = new ArrayList<>();
+        for (ProjectCandidate project : pendingProjects) {
+            projects.add(project);
+        }
+        int n = projects.size();
+
+        // Counting sort of input positions by (clamped) deadline
+        int[] bucketStart = new int[horizonDays + 2];
+        for (ProjectCandidate project : projects) {
+            bucketStart[effectiveDeadline(project) + 1]++;
+        }
+        for (int d = 1; d < bucketStart.length; d++) {
+            bucketStart[d] += bucketStart[d - 1];
+        }
+        int[] byDeadline = new int[n];
+        int[] fill = Arrays.copyOf(bucketStart, bucketStart.length);
+        for (int i = 0; i < n; i++) {
+            byDeadline[fill[effectiveDeadline(projects.get(i))]++] = i;
+        }
+
+        // Min-heap ordered worst-first: lowest revenue, then latest input position
+        PriorityQueue<Integer> selected = new PriorityQueue<>(
+                (a, b) -> comparePriority(projects, b, a));
+
+        for (int deadline = 1; deadline <= horizonDays; deadline++) {
+            for (int k = bucketStart[deadline]; k < bucketStart[deadline + 1]; k++) {
+                selected.add(byDeadline[k]);
+            }
+            long limit = (long) dayCapacity * deadline;
+            while (selected.size() > limit) {
+                selected.poll();
+            }
+        }
+
+        boolean[] isSelected = new boolean[n];
+        Integer[] placementOrder = selected.toArray(new Integer[0]);
+        for (int index : placementOrder) {
+            isSelected[index] = true;
+        }
+
+        // Place the selection best-first, exactly like the greedy pass would
+        Arrays.sort(placementOrder, (a, b) -> comparePriority(projects, a, b));
+        SlotAllocator allocator = new DisjointSetSlotAllocator(horizonDays, dayCapacity);
+        DaySchedule schedule = new DaySchedule(horizonDays);
+        for (int index : placementOrder) {
+            ProjectCandidate project = projects.get(index);
+            schedule.add(allocator.allocate(project.deadline()), project);
+        }
+
+        List<ProjectCandidate> unscheduledProjects = new ArrayList<>(n - placementOrder.length);
+        for (int i = 0; i < n; i++) {
+            if (!isSelected[i]) {
+                unscheduledProjects.add(projects.get(i));
+            }
+        }
+
+        return schedule.toPlan(unscheduledProjects);
+    }
+
+    @Override
+    public int getHorizonDays() {
+        return horizonDays;
+    }
+
+    @Override
+    public int getDayCapacity() {
+        return dayCapacity;
+    }
+
+    // Deadlines past the horizon behave like the last day; non-positive ones never fit
+    private int effectiveDeadline(ProjectCandidate project) {
+        return Math.max(0, Math.min(project.deadline(), horizonDays));
+    }
+
+    // Negative when the project at position a should be preferred over b
+    private static int comparePriority(List<ProjectCandidate> projects, int a, int b) {
+        int byRevenue = Long.compare(projects.get(b).revenueCents(), projects.get(a).revenueCents());
+        return byRevenue != 0 ? byRevenue : Integer.compare(a, b);
+    }
+}
@@ -0,0 +1,216 @@
+package com.promanage.service.engine;
+
+import com.promanage.model.ProjectCandidate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+//  Long-lived scheduler that keeps the optimal selection up to date as pending
+//  projects come and go, instead of re-reading and re-sorting the backlog
+//
+//  Feasible selections form a matroid (at most dayCapacity * d projects with
+//  deadline <= d, for every d), so single-element exchanges keep the selection
+//  optimal:
+//    - add:    if the project fits, take it; otherwise find the first tight day
+//              t >= its deadline and swap it for the worst selected project with
+//              deadline <= t, if it beats that project
+//    - remove: drop it, then pull in the best unselected project whose deadline
+//              lies after the last tight day, if any
+//  SlackTree finds tight days, BucketTrees find the worst selected and best
+//  unselected project over a deadline range, and per-deadline TreeSets hold the
+//  projects themselves: every event costs O(log n + log D).
+//
+//  Ties use ProjectCandidate.compareByPriority, so the selection and the days
+//  match GreedySchedulingEngine on the same pending set. getPlan() only places
+//  the selected projects (at most dayCapacity * D) and is cached between events;
+//  unselected projects are reported as an omitted count and revenue total.
+//  Not thread-safe.
+
+public class IncrementalScheduler {
+
+    private final int horizonDays;
+    private final int dayCapacity;
+
+    private final Map<Integer, ProjectCandidate> projects = new HashMap<>();
+    private final TreeSet<ProjectCandidate> selected = new TreeSet<>(ProjectCandidate::compareByPriority);
+    private final TreeSet<ProjectCandidate>[] selectedByDeadline;
+    private final TreeSet<ProjectCandidate>[] unselectedByDeadline;
+    private final SlackTree slack;
+    private final BucketTree worstSelected;
+    private final BucketTree bestUnselected;
+
+    private long unselectedCount;
+    private long unselectedRevenueCents;
+    private SchedulePlan plan;
+
+    @SuppressWarnings("unchecked")
+    public IncrementalScheduler(int horizonDays, int dayCapacity) {
+        if (horizonDays <= 0) {
+            throw new IllegalArgumentException("Horizon must be at least one day: " + horizonDays);
+        }
+        if (dayCapacity <= 0) {
+            throw new IllegalArgumentException("Day capacity must be at least one: " + dayCapacity);
+        }
+        this.horizonDays = horizonDays;
+        this.dayCapacity = dayCapacity;
+        this.selectedByDeadline = (TreeSet<ProjectCandidate>[]) new TreeSet<?>[horizonDays];
+        this.unselectedByDeadline = (TreeSet<ProjectCandidate>[]) new TreeSet<?>[horizonDays];
+        for (int d = 0; d < horizonDays; d++) {
+            selectedByDeadline[d] = new TreeSet<>(ProjectCandidate::compareByPriority);
+            unselectedByDeadline[d] = new TreeSet<>(ProjectCandidate::compareByPriority);
+        }
+        this.slack = new SlackTree(horizonDays, dayCapacity);
+        this.worstSelected = new BucketTree(horizonDays, (a, b) -> ProjectCandidate.compareByPriority(b, a));
+        this.bestUnselected = new BucketTree(horizonDays, ProjectCandidate::compareByPriority);
+    }
+
+    public void addAll(Iterable<ProjectCandidate> pendingProjects) {
+        for (ProjectCandidate project : pendingProjects) {
+            projectAdded(project);
+        }
+    }
+
+    // A project that is already known is treated as updated
+    public void projectAdded(ProjectCandidate project) {
+        if (projects.containsKey(project.projectId())) {
+            projectRemoved(project.projectId());
+        }
+        projects.put(project.projectId(), project);
+        plan = null;
+
+        int bucket = bucketOf(project);
+        if (bucket < 0) {
+            addUnselected(project);
+            return;
+        }
+
+        int tight = slack.firstTightFrom(bucket);
+        if (tight < 0) {
+            addSelected(project);
+            return;
+        }
+
+        ProjectCandidate worst = worstSelected.query(0, tight);
+        if (worst != null && ProjectCandidate.compareByPriority(project, worst) < 0) {
+            removeSelected(worst);
+            addUnselected(worst);
+            addSelected(project);
+        } else {
+            addUnselected(project);
+        }
+    }
+
+    public void revenueChanged(int projectId, long revenueCents) {
+        ProjectCandidate project = projects.get(projectId);
+        if (project == null) {
+            throw new IllegalArgumentException("Unknown project: " + projectId);
+        }
+        projectAdded(new ProjectCandidate(projectId, project.deadline(), revenueCents));
+    }
+
+    public boolean projectRemoved(int projectId) {
+        ProjectCandidate project = projects.remove(projectId);
+        if (project == null) {
+            return false;
+        }
+        plan = null;
+
+        if (!selected.contains(project)) {
+            removeUnselected(project);
+            return true;
+        }
+
+        removeSelected(project);
+        ProjectCandidate replacement = bestUnselected.query(slack.lastTight() + 1, horizonDays - 1);
+        if (replacement != null) {
+            removeUnselected(replacement);
+            addSelected(replacement);
+        }
+        return true;
+    }
+
+    public boolean contains(int projectId) {
+        return projects.containsKey(projectId);
+    }
+
+    public boolean isScheduled(int projectId) {
+        ProjectCandidate project = projects.get(projectId);
+        return project != null && selected.contains(project);
+    }
+
+    public int size() {
+        return projects.size();
+    }
+
+    public void clear() {
+        for (ProjectCandidate project : projects.values().toArray(new ProjectCandidate[0])) {
+            projectRemoved(project.projectId());
+        }
+    }
+
+    // Places the current selection best-first, exactly like the greedy pass would
+    public SchedulePlan getPlan() {
+        if (plan == null) {
+            SlotAllocator allocator = new DisjointSetSlotAllocator(horizonDays, dayCapacity);
+            DaySchedule schedule = new DaySchedule(horizonDays);
+            for (ProjectCandidate project : selected) {
+                schedule.add(allocator.allocate(project.deadline()), project);
+            }
+            plan = schedule.toPlan(List.of(), unselectedCount, unselectedRevenueCents);
+        }
+        return plan;
+    }
+
+    public int getHorizonDays() {
+        return horizonDays;
+    }
+
+    public int getDayCapacity() {
+        return dayCapacity;
+    }
+
+    // 0-based deadline bucket; deadlines past the horizon share the last one,
+    // non-positive deadlines get -1 and are never scheduled
+    private int bucketOf(ProjectCandidate project) {
+        return project.deadline() <= 0 ? -1 : Math.min(project.deadline(), horizonDays) - 1;
+    }
+
+    private void addSelected(ProjectCandidate project) {
+        int bucket = bucketOf(project);
+        selected.add(project);
+        selectedByDeadline[bucket].add(project);
+        worstSelected.set(bucket, selectedByDeadline[bucket].last());
+        slack.addFrom(bucket, -1);
+    }
+
+    private void removeSelected(ProjectCandidate project) {
+        int bucket = bucketOf(project);
+        selected.remove(project);
+        selectedByDeadline[bucket].remove(project);
+        worstSelected.set(bucket, selectedByDeadline[bucket].isEmpty() ? null : selectedByDeadline[bucket].last());
+        slack.addFrom(bucket, 1);
+    }
+
+    private void addUnselected(ProjectCandidate project) {
+        unselectedCount++;
+        unselectedRevenueCents += project.revenueCents();
+        int bucket = bucketOf(project);
+        if (bucket >= 0) {
+            unselectedByDeadline[bucket].add(project);
+            bestUnselected.set(bucket, unselectedByDeadline[bucket].first());
+        }
+    }
+
+    private void removeUnselected(ProjectCandidate project) {
+        unselectedCount--;
+        unselectedRevenueCents -= project.revenueCents();
+        int bucket = bucketOf(project);
+        if (bucket >= 0) {
+            unselectedByDeadline[bucket].remove(project);
+            bestUnselected.set(bucket,
+                    unselectedByDeadline[bucket].isEmpty() ? null : unselectedByDeadline[bucket].first());
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.promanage.service.engine;
+
+import com.promanage.model.ProjectCandidate;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+//  Output of a SchedulingEngine, expressed in candidates rather than full projects
+//  Scheduled candidates are in day order; getDayNumber(i) is the 1-based day of
+//  the i-th one. SchedulingService turns a plan into a ScheduleResult by loading
+//  the titles of the listed projects.
+
+public class SchedulePlan {
+
+    private final List<ProjectCandidate> scheduled;
+    private final int[] dayNumbers;
+    private final List<ProjectCandidate> unscheduled;
+    private final long omittedCount;
+    private final long omittedRevenueCents;
+
+    public SchedulePlan(List<ProjectCandidate> scheduled, int[] dayNumbers, List<ProjectCandidate> unscheduled,
+                        long omittedCount, long omittedRevenueCents) {
+        if (scheduled.size() != dayNumbers.length) {
+            throw new IllegalArgumentException("Every scheduled candidate needs a day number");
+        }
+        this.scheduled = scheduled;
+        this.dayNumbers = dayNumbers;
+        this.unscheduled = unscheduled;
+        this.omittedCount = omittedCount;
+        this.omittedRevenueCents = omittedRevenueCents;
+    }
+
+    public List<ProjectCandidate> getScheduled() {
+        return scheduled;
+    }
+
+    public int getDayNumber(int index) {
+        return dayNumbers[index];
+    }
+
+    public List<ProjectCandidate> getUnscheduled() {
+        return unscheduled;
+    }
+
+//  Unscheduled projects that are not listed individually
+
+    public long getOmittedCount() {
+        return omittedCount;
+    }
+
+    public long getOmittedRevenueCents() {
+        return omittedRevenueCents;
+    }
+
+    public BigDecimal getOmittedRevenue() {
+        return BigDecimal.valueOf(omittedRevenueCents, 2);
+    }
+
+    public int[] getScheduledIds() {
+        int[] ids = new int[scheduled.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = scheduled.get(i).projectId();
+        }
+        return ids;
+    }
+
+    public long getScheduledRevenueCents() {
+        long total = 0;
+        for (ProjectCandidate candidate : scheduled) {
+            total += candidate.revenueCents();
+        }
+        return total;
+    }
+}
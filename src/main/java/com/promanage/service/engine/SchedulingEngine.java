@@ -0,0 +1,21 @@
+package com.promanage.service.engine;
+
+import com.promanage.model.ProjectCandidate;
+
+//  Strategy for turning a set of pending projects into a schedule
+//  Engines only compute the plan; persisting statuses is left to the caller
+
+public interface SchedulingEngine {
+
+    SchedulePlan schedule(Iterable<ProjectCandidate> pendingProjects);
+
+    int getHorizonDays();
+
+    int getDayCapacity();
+
+//  Whether pendingProjects must arrive ordered by revenue DESC, project_id
+//  Engines that return false can be fed an unsorted pending set
+    default boolean requiresRevenueOrder() {
+        return true;
+    }
+}
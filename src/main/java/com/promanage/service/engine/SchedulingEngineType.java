@@ -0,0 +1,54 @@
+package com.promanage.service.engine;
+
+import com.promanage.utils.AppConfig;
+
+//  Built-in scheduling engines, selectable through scheduler.engine
+
+public enum SchedulingEngineType {
+
+    GREEDY("greedy") {
+        @Override
+        public SchedulingEngine create(int horizonDays, int dayCapacity) {
+            return new GreedySchedulingEngine(horizonDays, dayCapacity, SlotAllocatorType.fromConfig());
+        }
+    },
+
+    HEAP("heap") {
+        @Override
+        public SchedulingEngine create(int horizonDays, int dayCapacity) {
+            return new HeapSchedulingEngine(horizonDays, dayCapacity);
+        }
+    },
+
+    STREAMING("streaming") {
+        @Override
+        public SchedulingEngine create(int horizonDays, int dayCapacity) {
+            return new StreamingSchedulingEngine(horizonDays, dayCapacity);
+        }
+    };
+
+    private final String configName;
+
+    SchedulingEngineType(String configName) {
+        this.configName = configName;
+    }
+
+    public abstract SchedulingEngine create(int horizonDays, int dayCapacity);
+
+    public String getConfigName() {
+        return configName;
+    }
+
+    public static SchedulingEngineType fromConfigName(String name) {
+        for (SchedulingEngineType type : values()) {
+            if (type.configName.equalsIgnoreCase(name) || type.name().equalsIgnoreCase(name)) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("Unknown scheduling engine: " + name);
+    }
+
+    public static SchedulingEngineType fromConfig() {
+        return fromConfigName(AppConfig.getString(AppConfig.SCHEDULING_ENGINE, GREEDY.configName));
+    }
+}
@@ -0,0 +1,98 @@
+package com.promanage.service.engine;
+
+//  Remaining capacity per prefix of the horizon
+//  Leaf d (0-based) holds dayCapacity * (d + 1) minus the number of selected
+//  projects with deadline <= d + 1. A selection is feasible while every leaf is
+//  non-negative; a leaf at zero is a tight day. Lazy range add, O(log D) each.
+
+class SlackTree {
+
+    private final int size;
+    private final int[] min;
+    private final int[] pending;
+
+    SlackTree(int horizonDays, int dayCapacity) {
+        this.size = horizonDays;
+        this.min = new int[4 * horizonDays];
+        this.pending = new int[4 * horizonDays];
+        build(1, 0, size - 1, dayCapacity);
+    }
+
+    // Add delta to leaves from..size-1
+    void addFrom(int from, int delta) {
+        add(1, 0, size - 1, from, size - 1, delta);
+    }
+
+    // Smallest tight leaf >= from, or -1
+    int firstTightFrom(int from) {
+        return firstTight(1, 0, size - 1, from);
+    }
+
+    // Largest tight leaf, or -1
+    int lastTight() {
+        return lastTight(1, 0, size - 1);
+    }
+
+    private void build(int node, int lo, int hi, int dayCapacity) {
+        if (lo == hi) {
+            min[node] = dayCapacity * (lo + 1);
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        build(2 * node, lo, mid, dayCapacity);
+        build(2 * node + 1, mid + 1, hi, dayCapacity);
+        min[node] = Math.min(min[2 * node], min[2 * node + 1]);
+    }
+
+    private void add(int node, int lo, int hi, int from, int to, int delta) {
+        if (to < lo || hi < from) {
+            return;
+        }
+        if (from <= lo && hi <= to) {
+            min[node] += delta;
+            pending[node] += delta;
+            return;
+        }
+        pushDown(node);
+        int mid = (lo + hi) >>> 1;
+        add(2 * node, lo, mid, from, to, delta);
+        add(2 * node + 1, mid + 1, hi, from, to, delta);
+        min[node] = Math.min(min[2 * node], min[2 * node + 1]);
+    }
+
+    private int firstTight(int node, int lo, int hi, int from) {
+        if (hi < from || min[node] > 0) {
+            return -1;
+        }
+        if (lo == hi) {
+            return lo;
+        }
+        pushDown(node);
+        int mid = (lo + hi) >>> 1;
+        int left = firstTight(2 * node, lo, mid, from);
+        return left >= 0 ? left : firstTight(2 * node + 1, mid + 1, hi, from);
+    }
+
+    private int lastTight(int node, int lo, int hi) {
+        if (min[node] > 0) {
+            return -1;
+        }
+        if (lo == hi) {
+            return lo;
+        }
+        pushDown(node);
+        int mid = (lo + hi) >>> 1;
+        int right = lastTight(2 * node + 1, mid + 1, hi);
+        return right >= 0 ? right : lastTight(2 * node, lo, mid);
+    }
+
+    private void pushDown(int node) {
+        if (pending[node] != 0) {
+            for (int child = 2 * node; child <= 2 * node + 1; child++) {
+                min[child] += pending[node];
+                pending[child] += pending[node];
+            }
+            pending[node] = 0;
+        }
+    }
+}
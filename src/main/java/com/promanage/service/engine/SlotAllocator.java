@@ -0,0 +1,22 @@
+package com.promanage.service.engine;
+
+//  Hands out day slots to projects during schedule generation
+//  Each call claims a slot on the latest day on or before the given deadline
+//  that still has capacity left
+
+public interface SlotAllocator {
+
+//  Claim a slot on the latest day (0-based) that is on or before the deadline
+//  @return the claimed day index, or -1 if every day up to the deadline is full
+
+    int allocate(int deadline);
+
+    int getHorizonDays();
+
+    int getDayCapacity();
+
+    @FunctionalInterface
+    interface Factory {
+        SlotAllocator create(int horizonDays, int dayCapacity);
+    }
+}
@@ -0,0 +1,45 @@
+package com.promanage.service.engine;
+
+import com.promanage.utils.AppConfig;
+
+//  Built-in slot allocators, selectable through scheduler.slotAllocator
+
+public enum SlotAllocatorType implements SlotAllocator.Factory {
+
+    ARRAY_SCAN("array-scan") {
+        @Override
+        public SlotAllocator create(int horizonDays, int dayCapacity) {
+            return new ArrayScanSlotAllocator(horizonDays, dayCapacity);
+        }
+    },
+
+    DISJOINT_SET("disjoint-set") {
+        @Override
+        public SlotAllocator create(int horizonDays, int dayCapacity) {
+            return new DisjointSetSlotAllocator(horizonDays, dayCapacity);
+        }
+    };
+
+    private final String configName;
+
+    SlotAllocatorType(String configName) {
+        this.configName = configName;
+    }
+
+    public String getConfigName() {
+        return configName;
+    }
+
+    public static SlotAllocatorType fromConfigName(String name) {
+        for (SlotAllocatorType type : values()) {
+            if (type.configName.equalsIgnoreCase(name) || type.name().equalsIgnoreCase(name)) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("Unknown slot allocator: " + name);
+    }
+
+    public static SlotAllocatorType fromConfig() {
+        return fromConfigName(AppConfig.getString(AppConfig.SLOT_ALLOCATOR, DISJOINT_SET.configName));
+    }
+}
@@ -0,0 +1,163 @@
+package com.promanage.service.engine;
+
+import com.promanage.model.ProjectCandidate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+
+//  Bounded-memory scheduler for unsorted input
+//  Projects can arrive in any order, so the database does not have to sort
+//  the pending set. Only projects that can still make the schedule are kept:
+//
+//  - Per-deadline min-heaps keep the best dayCapacity * d projects of each
+//    deadline bucket d; anything below that can never fit, because the
+//    better projects alone already fill every day up to d.
+//  - Whenever more than twice the schedule size is retained, the greedy
+//    placement is run over the retained projects and the ones it rejects are
+//    dropped: a project rejected from a subset is rejected from any superset.
+//
+//  Retained memory therefore stays O(dayCapacity * horizon) regardless of the
+//  number of pending projects. The scheduled projects and their days are
+//  identical to GreedySchedulingEngine over input ordered by revenue DESC,
+//  project_id; dropped projects are reported in aggregate through
+//  SchedulePlan.getOmittedCount() / getOmittedRevenueCents().
+
+public class StreamingSchedulingEngine implements SchedulingEngine {
+
+    private static final int MIN_COMPACTION_THRESHOLD = 64;
+
+    private final int horizonDays;
+    private final int dayCapacity;
+
+    public StreamingSchedulingEngine(int horizonDays, int dayCapacity) {
+        if (horizonDays <= 0) {
+            throw new IllegalArgumentException("Horizon must be at least one day: " + horizonDays);
+        }
+        if (dayCapacity <= 0) {
+            throw new IllegalArgumentException("Day capacity must be at least one: " + dayCapacity);
+        }
+        this.horizonDays = horizonDays;
+        this.dayCapacity = dayCapacity;
+    }
+
+    @Override
+    public SchedulePlan schedule(Iterable<ProjectCandidate> pendingProjects) {
+        Candidates candidates = new Candidates();
+        for (ProjectCandidate project : pendingProjects) {
+            candidates.offer(project);
+        }
+
+        List<ProjectCandidate> retained = candidates.drain();
+        retained.sort(ProjectCandidate::compareByPriority);
+
+        SlotAllocator allocator = new DisjointSetSlotAllocator(horizonDays, dayCapacity);
+        DaySchedule schedule = new DaySchedule(horizonDays);
+        List<ProjectCandidate> unscheduledProjects = new ArrayList<>();
+        for (ProjectCandidate project : retained) {
+            int scheduledDay = allocator.allocate(project.deadline());
+            if (scheduledDay != -1) {
+                schedule.add(scheduledDay, project);
+            } else {
+                unscheduledProjects.add(project);
+            }
+        }
+
+        return schedule.toPlan(unscheduledProjects, candidates.droppedCount, candidates.droppedRevenueCents);
+    }
+
+    @Override
+    public int getHorizonDays() {
+        return horizonDays;
+    }
+
+    @Override
+    public int getDayCapacity() {
+        return dayCapacity;
+    }
+
+    @Override
+    public boolean requiresRevenueOrder() {
+        return false;
+    }
+
+    // Deadline buckets of retained projects, plus totals for everything dropped
+    private final class Candidates {
+
+        private final List<PriorityQueue<ProjectCandidate>> buckets = new ArrayList<>(horizonDays + 1);
+        private final long compactionThreshold =
+                Math.max(MIN_COMPACTION_THRESHOLD, 2L * dayCapacity * horizonDays);
+        private long retainedCount;
+        private long droppedCount;
+        private long droppedRevenueCents;
+
+        private Candidates() {
+            for (int d = 0; d <= horizonDays; d++) {
+                buckets.add(null);
+            }
+        }
+
+        private void offer(ProjectCandidate project) {
+            int deadline = Math.min(project.deadline(), horizonDays);
+            if (deadline <= 0) {
+                drop(project);
+                return;
+            }
+
+            PriorityQueue<ProjectCandidate> bucket = buckets.get(deadline);
+            if (bucket == null) {
+                // Worst project (lowest priority) at the head
+                bucket = new PriorityQueue<>((a, b) -> ProjectCandidate.compareByPriority(b, a));
+                buckets.set(deadline, bucket);
+            }
+
+            if (bucket.size() < (long) dayCapacity * deadline) {
+                bucket.add(project);
+                retainedCount++;
+            } else if (ProjectCandidate.compareByPriority(project, bucket.peek()) < 0) {
+                drop(bucket.poll());
+                bucket.add(project);
+            } else {
+                drop(project);
+            }
+
+            if (retainedCount > compactionThreshold) {
+                compact();
+            }
+        }
+
+        // Keep only the projects the greedy placement accepts among those retained
+        private void compact() {
+            List<ProjectCandidate> retained = drain();
+            retained.sort(ProjectCandidate::compareByPriority);
+
+            SlotAllocator allocator = new DisjointSetSlotAllocator(horizonDays, dayCapacity);
+            for (ProjectCandidate project : retained) {
+                if (allocator.allocate(project.deadline()) != -1) {
+                    buckets.get(Math.min(project.deadline(), horizonDays)).add(project);
+                    retainedCount++;
+                } else {
+                    drop(project);
+                }
+            }
+        }
+
+        // Remove and return every retained project; buckets stay allocated
+        private List<ProjectCandidate> drain() {
+            List<ProjectCandidate> retained = new ArrayList<>((int) retainedCount);
+            for (PriorityQueue<ProjectCandidate> bucket : buckets) {
+                if (bucket != null) {
+                    retained.addAll(bucket);
+                    bucket.clear();
+                }
+            }
+            retainedCount = 0;
+            return retained;
+        }
+
+        private void drop(ProjectCandidate project) {
+            droppedCount++;
+            droppedRevenueCents += project.revenueCents();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.promanage.service.engine;
+
+import com.promanage.model.ProjectCandidate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+//  Replays random add / revenue change / remove events into the incremental
+//  scheduler and compares its plan with a full greedy recompute after each one.
+public class TestIncrementalScheduler {
+
+    public static void main(String[] args) {
+        System.out.println("=== Testing Incremental Scheduler ===\n");
+
+        Random random = new Random(13);
+        int mismatches = 0;
+        int events = 0;
+
+        for (int round = 0; round < 300; round++) {
+            int horizonDays = 1 + random.nextInt(12);
+            int dayCapacity = 1 + random.nextInt(3);
+            IncrementalScheduler incremental = new IncrementalScheduler(horizonDays, dayCapacity);
+            Map<Integer, ProjectCandidate> pending = new HashMap<>();
+            int nextId = 1;
+
+            for (int step = 0; step < 200; step++) {
+                int action = random.nextInt(10);
+                if (action < 5 || pending.isEmpty()) {
+                    // Deadlines include 0 and past-the-horizon values on purpose
+                    ProjectCandidate project = new ProjectCandidate(nextId++,
+                            random.nextInt(horizonDays + 3), 100_000L * (1 + random.nextInt(10)));
+                    pending.put(project.projectId(), project);
+                    incremental.projectAdded(project);
+                } else {
+                    List<Integer> ids = new ArrayList<>(pending.keySet());
+                    int projectId = ids.get(random.nextInt(ids.size()));
+                    if (action < 8) {
+                        ProjectCandidate changed = new ProjectCandidate(projectId, pending.get(projectId).deadline(),
+                                100_000L * (1 + random.nextInt(10)));
+                        pending.put(projectId, changed);
+                        incremental.revenueChanged(projectId, changed.revenueCents());
+                    } else {
+                        pending.remove(projectId);
+                        incremental.projectRemoved(projectId);
+                    }
+                }
+                events++;
+
+                List<ProjectCandidate> ordered = new ArrayList<>(pending.values());
+                ordered.sort(ProjectCandidate::compareByPriority);
+                SchedulePlan expected = new GreedySchedulingEngine(horizonDays, dayCapacity,
+                        SlotAllocatorType.ARRAY_SCAN).schedule(ordered);
+                SchedulePlan actual = incremental.getPlan();
+
+                boolean sameDays = TestSchedulingEngines.describeScheduled(expected)
+                        .equals(TestSchedulingEngines.describeScheduled(actual));
+                if (!sameDays
+                        || TestSchedulingEngines.totalUnscheduled(expected) != TestSchedulingEngines.totalUnscheduled(actual)
+                        || TestSchedulingEngines.lostRevenueCents(expected) != TestSchedulingEngines.lostRevenueCents(actual)) {
+                    mismatches++;
+                }
+            }
+        }
+
+        System.out.println("  Events checked: " + events);
+        if (mismatches == 0) {
+            System.out.println("\n✓ Incremental plan matched a full recompute after every event!");
+        } else {
+            System.err.println("\n✗ " + mismatches + " events left a different plan!");
+        }
+    }
+}
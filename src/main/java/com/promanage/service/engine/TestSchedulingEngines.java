@@ -0,0 +1,90 @@
+package com.promanage.service.engine;
+
+import com.promanage.model.ProjectCandidate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+//  Cross-checks the heap and streaming engines against the greedy engine on
+//  random backlogs. All must produce identical schedules (same days, same order)
+//  for every capacity; the streaming engine gets the backlog shuffled.
+public class TestSchedulingEngines {
+
+    public static void main(String[] args) {
+        System.out.println("=== Comparing Scheduling Engines ===\n");
+
+        Random random = new Random(7);
+        int mismatches = 0;
+        int rounds = 2000;
+
+        for (int round = 0; round < rounds; round++) {
+            int horizonDays = 1 + random.nextInt(15);
+            int dayCapacity = 1 + random.nextInt(3);
+            List<ProjectCandidate> pending = randomBacklog(random, horizonDays, random.nextInt(300));
+
+            SchedulePlan greedy = new GreedySchedulingEngine(horizonDays, dayCapacity, SlotAllocatorType.ARRAY_SCAN)
+                    .schedule(pending);
+            SchedulePlan heap = new HeapSchedulingEngine(horizonDays, dayCapacity).schedule(pending);
+
+            List<ProjectCandidate> shuffled = new ArrayList<>(pending);
+            Collections.shuffle(shuffled, random);
+            SchedulePlan streaming = new StreamingSchedulingEngine(horizonDays, dayCapacity).schedule(shuffled);
+
+            if (!describe(greedy).equals(describe(heap))
+                    || !describeScheduled(greedy).equals(describeScheduled(streaming))
+                    || totalUnscheduled(greedy) != totalUnscheduled(streaming)
+                    || lostRevenueCents(greedy) != lostRevenueCents(streaming)) {
+                mismatches++;
+            }
+        }
+
+        System.out.println("  Rounds checked: " + rounds);
+        if (mismatches == 0) {
+            System.out.println("\n✓ Engines produced identical schedules!");
+        } else {
+            System.err.println("\n✗ " + mismatches + " rounds produced different schedules!");
+        }
+    }
+
+    // Revenue-ordered like streamPendingCandidates(), with plenty of revenue ties
+    static List<ProjectCandidate> randomBacklog(Random random, int horizonDays, int size) {
+        List<ProjectCandidate> projects = new ArrayList<>();
+        for (int i = 1; i <= size; i++) {
+            projects.add(new ProjectCandidate(i, 1 + random.nextInt(horizonDays),
+                    100_000L * (1 + random.nextInt(10))));
+        }
+        projects.sort(ProjectCandidate::compareByPriority);
+        return projects;
+    }
+
+    static String describeScheduled(SchedulePlan plan) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < plan.getScheduled().size(); i++) {
+            sb.append(plan.getScheduled().get(i).projectId()).append('@').append(plan.getDayNumber(i)).append(' ');
+        }
+        return sb.toString();
+    }
+
+    static String describe(SchedulePlan plan) {
+        StringBuilder sb = new StringBuilder(describeScheduled(plan));
+        sb.append('|');
+        for (ProjectCandidate p : plan.getUnscheduled()) {
+            sb.append(' ').append(p.projectId());
+        }
+        return sb.toString();
+    }
+
+    static long totalUnscheduled(SchedulePlan plan) {
+        return plan.getUnscheduled().size() + plan.getOmittedCount();
+    }
+
+    static long lostRevenueCents(SchedulePlan plan) {
+        long lost = plan.getOmittedRevenueCents();
+        for (ProjectCandidate p : plan.getUnscheduled()) {
+            lost += p.revenueCents();
+        }
+        return lost;
+    }
+}
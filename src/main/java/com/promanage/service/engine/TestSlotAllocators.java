@@ -0,0 +1,40 @@
+package com.promanage.service.engine;
+
+import java.util.Random;
+
+//  Cross-checks the disjoint-set allocator against the array-scan reference
+//  on random deadline sequences. Run this after touching either allocator.
+public class TestSlotAllocators {
+
+    public static void main(String[] args) {
+        System.out.println("=== Comparing Slot Allocators ===\n");
+
+        Random random = new Random(42);
+        int[] horizons = {1, 5, 30, 365};
+        int[] capacities = {1, 3};
+        int mismatches = 0;
+
+        for (int horizonDays : horizons) {
+            for (int dayCapacity : capacities) {
+                for (int round = 0; round < 200; round++) {
+                    SlotAllocator reference = SlotAllocatorType.ARRAY_SCAN.create(horizonDays, dayCapacity);
+                    SlotAllocator candidate = SlotAllocatorType.DISJOINT_SET.create(horizonDays, dayCapacity);
+
+                    for (int i = 0; i < horizonDays * dayCapacity * 2; i++) {
+                        int deadline = 1 + random.nextInt(horizonDays);
+                        if (reference.allocate(deadline) != candidate.allocate(deadline)) {
+                            mismatches++;
+                        }
+                    }
+                }
+                System.out.println("  Horizon " + horizonDays + " days, capacity " + dayCapacity + ": checked");
+            }
+        }
+
+        if (mismatches == 0) {
+            System.out.println("\n✓ Allocators agree on every allocation!");
+        } else {
+            System.err.println("\n✗ " + mismatches + " mismatched allocations!");
+        }
+    }
+}
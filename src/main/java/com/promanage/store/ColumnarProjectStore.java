@@ -0,0 +1,188 @@
+package com.promanage.store;
+
+import com.promanage.dao.DataAccessException;
+import com.promanage.dao.ProjectDAO;
+import com.promanage.model.Project;
+import com.promanage.model.ProjectCandidate;
+import com.promanage.model.ProjectStatus;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+//  In-memory project set held in parallel primitive arrays
+//  ids and deadlines as int[], revenue as long[] paise, status as byte[] codes,
+//  and every title packed into one shared char[] arena addressed by offsets.
+//  Compared to a List<Project> this drops the per-row object headers,
+//  BigDecimal, LocalDateTime and String instances.
+
+public class ColumnarProjectStore implements ProjectColumns {
+
+    private final int size;
+    private final int[] projectIds;
+    private final int[] deadlines;
+    private final long[] revenueCents;
+    private final byte[] statusCodes;
+    private final char[] titleArena;
+    private final int[] titleOffsets; // title of row i is titleArena[titleOffsets[i] .. titleOffsets[i + 1])
+
+    private ColumnarProjectStore(Builder builder) {
+        this.size = builder.size;
+        this.projectIds = Arrays.copyOf(builder.projectIds, size);
+        this.deadlines = Arrays.copyOf(builder.deadlines, size);
+        this.revenueCents = Arrays.copyOf(builder.revenueCents, size);
+        this.statusCodes = Arrays.copyOf(builder.statusCodes, size);
+        this.titleArena = Arrays.copyOf(builder.titleArena, builder.titleLength);
+        this.titleOffsets = Arrays.copyOf(builder.titleOffsets, size + 1);
+    }
+
+//  Load every project, titles included
+
+    public static ColumnarProjectStore loadAll(ProjectDAO projectDAO) throws SQLException {
+        Builder builder = new Builder();
+        try (Stream<Project> projects = projectDAO.streamAllProjects()) {
+            Iterator<Project> it = projects.iterator();
+            while (it.hasNext()) {
+                builder.add(it.next());
+            }
+        } catch (DataAccessException e) {
+            throw e.getCause();
+        }
+        return builder.build();
+    }
+
+//  Load only what scheduling needs: pending projects without titles
+
+    public static ColumnarProjectStore loadPending(ProjectDAO projectDAO) throws SQLException {
+        Builder builder = new Builder();
+        try (Stream<ProjectCandidate> candidates = projectDAO.streamPendingCandidatesUnordered()) {
+            Iterator<ProjectCandidate> it = candidates.iterator();
+            while (it.hasNext()) {
+                ProjectCandidate c = it.next();
+                builder.add(c.projectId(), c.deadline(), c.revenueCents(), ProjectStatus.PENDING, "");
+            }
+        } catch (DataAccessException e) {
+            throw e.getCause();
+        }
+        return builder.build();
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int projectId(int row) {
+        return projectIds[row];
+    }
+
+    @Override
+    public int deadline(int row) {
+        return deadlines[row];
+    }
+
+    @Override
+    public long revenueCents(int row) {
+        return revenueCents[row];
+    }
+
+    @Override
+    public byte statusCode(int row) {
+        return statusCodes[row];
+    }
+
+    @Override
+    public String title(int row) {
+        return new String(titleArena, titleOffsets[row], titleOffsets[row + 1] - titleOffsets[row]);
+    }
+
+//  Append a title without materializing a String
+
+    public void appendTitle(int row, StringBuilder target) {
+        target.append(titleArena, titleOffsets[row], titleOffsets[row + 1] - titleOffsets[row]);
+    }
+
+//  Total revenue (paise) of every project in the given status
+
+    public long totalRevenueCents(ProjectStatus status) {
+        byte code = (byte) status.getCode();
+        long total = 0;
+        for (int row = 0; row < size; row++) {
+            if (statusCodes[row] == code) {
+                total += revenueCents[row];
+            }
+        }
+        return total;
+    }
+
+    public int count(ProjectStatus status) {
+        byte code = (byte) status.getCode();
+        int count = 0;
+        for (int row = 0; row < size; row++) {
+            if (statusCodes[row] == code) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+//  Approximate heap footprint of the column arrays, in bytes
+
+    public long estimatedBytes() {
+        return (long) size * (Integer.BYTES * 3 + Long.BYTES + 1) + (long) titleArena.length * Character.BYTES;
+    }
+
+//  Accumulates rows into growable columns; build() trims them to size
+
+    public static class Builder {
+
+        private static final int INITIAL_CAPACITY = 1024;
+
+        private int size;
+        private int[] projectIds = new int[INITIAL_CAPACITY];
+        private int[] deadlines = new int[INITIAL_CAPACITY];
+        private long[] revenueCents = new long[INITIAL_CAPACITY];
+        private byte[] statusCodes = new byte[INITIAL_CAPACITY];
+        private int[] titleOffsets = new int[INITIAL_CAPACITY + 1];
+        private char[] titleArena = new char[INITIAL_CAPACITY * 16];
+        private int titleLength;
+
+        public Builder add(Project project) {
+            return add(project.getProjectId(), project.getDeadline(),
+                    ProjectCandidate.toCents(project.getRevenue()), project.getStatus(), project.getTitle());
+        }
+
+        public Builder add(int projectId, int deadline, long revenue, ProjectStatus status, String title) {
+            if (size == projectIds.length) {
+                int capacity = size + (size >> 1);
+                projectIds = Arrays.copyOf(projectIds, capacity);
+                deadlines = Arrays.copyOf(deadlines, capacity);
+                revenueCents = Arrays.copyOf(revenueCents, capacity);
+                statusCodes = Arrays.copyOf(statusCodes, capacity);
+                titleOffsets = Arrays.copyOf(titleOffsets, capacity + 1);
+            }
+
+            String text = (title == null) ? "" : title;
+            if (titleLength + text.length() > titleArena.length) {
+                titleArena = Arrays.copyOf(titleArena,
+                        Math.max(titleArena.length + (titleArena.length >> 1), titleLength + text.length()));
+            }
+            text.getChars(0, text.length(), titleArena, titleLength);
+            titleLength += text.length();
+
+            projectIds[size] = projectId;
+            deadlines[size] = deadline;
+            revenueCents[size] = revenue;
+            statusCodes[size] = (byte) status.getCode();
+            size++;
+            titleOffsets[size] = titleLength;
+            return this;
+        }
+
+        public ColumnarProjectStore build() {
+            return new ColumnarProjectStore(this);
+        }
+    }
+}
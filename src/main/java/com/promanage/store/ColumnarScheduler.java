@@ -0,0 +1,171 @@
+package com.promanage.store;
+
+import com.promanage.model.ProjectCandidate;
+import com.promanage.model.ProjectStatus;
+import com.promanage.service.engine.DisjointSetSlotAllocator;
+import com.promanage.service.engine.SchedulePlan;
+import com.promanage.service.engine.SlotAllocator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+//  HeapSchedulingEngine run directly over ProjectColumns
+//  Pending rows are counting-sorted by deadline into an int[] and swept with a
+//  binary min-heap of row indices, so the only per-project state is a few ints.
+//  Candidates are created for the selected rows alone (at most dayCapacity *
+//  horizonDays); everything left pending is reported as an omitted count and
+//  revenue total in the returned plan.
+//
+//  Ties on revenue go to the lower project ID, matching Project.compareByPriority.
+
+public class ColumnarScheduler {
+
+    private final int horizonDays;
+    private final int dayCapacity;
+
+    public ColumnarScheduler(int horizonDays, int dayCapacity) {
+        if (horizonDays <= 0) {
+            throw new IllegalArgumentException("Horizon must be at least one day: " + horizonDays);
+        }
+        if (dayCapacity <= 0) {
+            throw new IllegalArgumentException("Day capacity must be at least one: " + dayCapacity);
+        }
+        this.horizonDays = horizonDays;
+        this.dayCapacity = dayCapacity;
+    }
+
+    public SchedulePlan schedule(ProjectColumns columns) {
+        byte pending = (byte) ProjectStatus.PENDING.getCode();
+        int size = columns.size();
+
+        // Counting sort of pending rows by (clamped) deadline
+        int[] bucketStart = new int[horizonDays + 2];
+        int pendingCount = 0;
+        long pendingRevenue = 0;
+        for (int row = 0; row < size; row++) {
+            if (columns.statusCode(row) == pending) {
+                bucketStart[effectiveDeadline(columns, row) + 1]++;
+                pendingCount++;
+                pendingRevenue += columns.revenueCents(row);
+            }
+        }
+        for (int d = 1; d < bucketStart.length; d++) {
+            bucketStart[d] += bucketStart[d - 1];
+        }
+        int[] byDeadline = new int[pendingCount];
+        int[] fill = bucketStart.clone();
+        for (int row = 0; row < size; row++) {
+            if (columns.statusCode(row) == pending) {
+                byDeadline[fill[effectiveDeadline(columns, row)]++] = row;
+            }
+        }
+
+        // Worst-first heap: the root is the selected row we would give up first
+        int heapLimit = (int) Math.min(pendingCount, (long) dayCapacity * horizonDays);
+        int[] heap = new int[heapLimit + 1];
+        int heapSize = 0;
+        for (int deadline = 1; deadline <= horizonDays; deadline++) {
+            long limit = (long) dayCapacity * deadline;
+            for (int k = bucketStart[deadline]; k < bucketStart[deadline + 1]; k++) {
+                heap[heapSize] = byDeadline[k];
+                siftUp(columns, heap, heapSize++);
+                if (heapSize > limit) {
+                    heap[0] = heap[--heapSize];
+                    siftDown(columns, heap, heapSize, 0);
+                }
+            }
+        }
+
+        // Draining the heap yields worst-first, so fill the placement order from the back
+        int[] placementOrder = new int[heapSize];
+        for (int i = heapSize - 1; i >= 0; i--) {
+            placementOrder[i] = heap[0];
+            heap[0] = heap[i];
+            siftDown(columns, heap, i, 0);
+        }
+
+        SlotAllocator allocator = new DisjointSetSlotAllocator(horizonDays, dayCapacity);
+        int[] dayOfRow = new int[placementOrder.length];
+        int[] perDay = new int[horizonDays + 1];
+        long scheduledRevenue = 0;
+        for (int i = 0; i < placementOrder.length; i++) {
+            int row = placementOrder[i];
+            dayOfRow[i] = allocator.allocate(columns.deadline(row)) + 1;
+            perDay[dayOfRow[i]]++;
+            scheduledRevenue += columns.revenueCents(row);
+        }
+
+        // Stable bucket pass into day order, keeping placement order within a day
+        for (int d = 1; d <= horizonDays; d++) {
+            perDay[d] += perDay[d - 1];
+        }
+        ProjectCandidate[] scheduled = new ProjectCandidate[placementOrder.length];
+        int[] dayNumbers = new int[placementOrder.length];
+        int[] next = new int[horizonDays + 1];
+        System.arraycopy(perDay, 0, next, 1, horizonDays);
+        for (int i = 0; i < placementOrder.length; i++) {
+            int row = placementOrder[i];
+            int slot = next[dayOfRow[i]]++;
+            scheduled[slot] = new ProjectCandidate(columns.projectId(row), columns.deadline(row),
+                    columns.revenueCents(row));
+            dayNumbers[slot] = dayOfRow[i];
+        }
+
+        List<ProjectCandidate> scheduledList = new ArrayList<>(scheduled.length);
+        for (ProjectCandidate candidate : scheduled) {
+            scheduledList.add(candidate);
+        }
+        return new SchedulePlan(scheduledList, dayNumbers, List.of(),
+                pendingCount - placementOrder.length, pendingRevenue - scheduledRevenue);
+    }
+
+    public int getHorizonDays() {
+        return horizonDays;
+    }
+
+    public int getDayCapacity() {
+        return dayCapacity;
+    }
+
+    // Deadlines past the horizon behave like the last day; non-positive ones never fit
+    private int effectiveDeadline(ProjectColumns columns, int row) {
+        return Math.max(0, Math.min(columns.deadline(row), horizonDays));
+    }
+
+    // True when row a is worse than row b: lower revenue, or equal revenue and higher ID
+    private static boolean isWorse(ProjectColumns columns, int a, int b) {
+        long ra = columns.revenueCents(a);
+        long rb = columns.revenueCents(b);
+        return ra != rb ? ra < rb : columns.projectId(a) > columns.projectId(b);
+    }
+
+    private static void siftUp(ProjectColumns columns, int[] heap, int index) {
+        int row = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!isWorse(columns, row, heap[parent])) {
+                break;
+            }
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = row;
+    }
+
+    private static void siftDown(ProjectColumns columns, int[] heap, int size, int index) {
+        int row = heap[index];
+        int half = size >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            if (child + 1 < size && isWorse(columns, heap[child + 1], heap[child])) {
+                child++;
+            }
+            if (!isWorse(columns, heap[child], row)) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = row;
+    }
+}
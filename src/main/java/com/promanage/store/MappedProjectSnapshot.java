@@ -0,0 +1,347 @@
+package com.promanage.store;
+
+import com.promanage.dao.ProjectDAO;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.SQLException;
+import java.util.Arrays;
+
+//  Project set saved as a binary file and read back through a memory mapping
+//  Opening a snapshot maps the file and checks its header; no row is decoded,
+//  so even a 10M-project file opens in milliseconds and takes no heap beyond a
+//  few buffer views. Columns are read straight from the page cache, and
+//  ColumnarScheduler (SchedulingService.planSchedule) runs over it directly.
+//
+//  Layout (little-endian, every column 8-byte aligned):
+//    header      64 bytes: magic "PMPS", format version (short), header size
+//                (short), row count (int), reserved (int), then the file offset
+//                of each section below (6 longs)
+//    ids         int[rows]
+//    deadlines   int[rows]
+//    revenue     long[rows], paise
+//    status      byte[rows], ProjectStatus codes
+//    title index int[rows + 1], title of row i is bytes [index[i], index[i + 1])
+//    titles      UTF-8 bytes of every title, back to back
+//
+//  A snapshot is limited to 2 GiB (one mapping). The mapping is released when the
+//  snapshot is garbage collected; the file may be replaced, not modified, while open.
+
+public class MappedProjectSnapshot implements ProjectColumns {
+
+    public static final int FORMAT_VERSION = 1;
+
+    private static final int MAGIC = 0x53504D50; // "PMPS" read little-endian
+    private static final int HEADER_BYTES = 64;
+    private static final int WRITE_BUFFER_BYTES = 64 * 1024;
+
+    private final Path file;
+    private final int size;
+    private final long fileBytes;
+    private final IntBuffer projectIds;
+    private final IntBuffer deadlines;
+    private final LongBuffer revenueCents;
+    private final ByteBuffer statusCodes;
+    private final IntBuffer titleIndex;
+    private final ByteBuffer titles;
+
+    private MappedProjectSnapshot(Path file, MappedByteBuffer mapped) throws IOException {
+        ByteBuffer header = mapped.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        long length = mapped.capacity();
+        if (length < HEADER_BYTES || header.getInt(0) != MAGIC) {
+            throw new IOException("Not a project snapshot: " + file);
+        }
+        int version = header.getShort(4);
+        if (version != FORMAT_VERSION) {
+            throw new IOException("Unsupported snapshot version " + version + " (expected "
+                    + FORMAT_VERSION + "): " + file);
+        }
+        int rows = header.getInt(8);
+        long[] sections = new long[6];
+        for (int i = 0; i < sections.length; i++) {
+            sections[i] = header.getLong(16 + i * Long.BYTES);
+        }
+        if (rows < 0 || !Layout.of(rows).matches(sections)) {
+            throw new IOException("Corrupt snapshot header: " + file);
+        }
+
+        this.file = file;
+        this.size = rows;
+        this.fileBytes = length;
+        this.projectIds = section(mapped, sections[0], (long) rows * Integer.BYTES).asIntBuffer();
+        this.deadlines = section(mapped, sections[1], (long) rows * Integer.BYTES).asIntBuffer();
+        this.revenueCents = section(mapped, sections[2], (long) rows * Long.BYTES).asLongBuffer();
+        this.statusCodes = section(mapped, sections[3], rows);
+        this.titleIndex = section(mapped, sections[4], (rows + 1L) * Integer.BYTES).asIntBuffer();
+
+        long titleBytes = titleIndex.get(rows);
+        if (titleIndex.get(0) != 0 || titleBytes < 0 || sections[5] + titleBytes != length) {
+            throw new IOException("Corrupt snapshot title index: " + file);
+        }
+        this.titles = section(mapped, sections[5], titleBytes);
+    }
+
+//  Map a snapshot written by write()
+//  @throws IOException if the file is not a snapshot, has another format
+//  version, or its sections do not fit the file
+
+    public static MappedProjectSnapshot open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long length = channel.size();
+            if (length > Integer.MAX_VALUE) {
+                throw new IOException("Snapshot larger than 2 GiB: " + file);
+            }
+            // The mapping stays valid after the channel is closed
+            return new MappedProjectSnapshot(file, channel.map(FileChannel.MapMode.READ_ONLY, 0, length));
+        }
+    }
+
+//  Snapshot every project in the DAO, titles included
+
+    public static long write(ProjectDAO projectDAO, Path target) throws SQLException, IOException {
+        return write(ColumnarProjectStore.loadAll(projectDAO), target);
+    }
+
+//  Write the rows of any column set as a snapshot
+//  The file is written next to target and moved into place once complete, so
+//  readers never map a half-written snapshot.
+//  @return the size of the written file, in bytes
+
+    public static long write(ProjectColumns columns, Path target) throws IOException {
+        int rows = columns.size();
+        Layout layout = Layout.of(rows);
+        Path directory = target.toAbsolutePath().getParent();
+        Path temp = Files.createTempFile(directory, target.getFileName().toString(), ".tmp");
+
+        try {
+            long length;
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                SectionWriter out = new SectionWriter(channel, layout.ids);
+                for (int row = 0; row < rows; row++) {
+                    out.putInt(columns.projectId(row));
+                }
+                out.seek(layout.deadlines);
+                for (int row = 0; row < rows; row++) {
+                    out.putInt(columns.deadline(row));
+                }
+                out.seek(layout.revenue);
+                for (int row = 0; row < rows; row++) {
+                    out.putLong(columns.revenueCents(row));
+                }
+                out.seek(layout.status);
+                for (int row = 0; row < rows; row++) {
+                    out.putByte(columns.statusCode(row));
+                }
+                out.flush();
+
+                // Title index and title bytes are filled side by side
+                SectionWriter index = new SectionWriter(channel, layout.titleIndex);
+                SectionWriter text = new SectionWriter(channel, layout.titles);
+                long titleBytes = 0;
+                index.putInt(0);
+                for (int row = 0; row < rows; row++) {
+                    String title = columns.title(row);
+                    byte[] bytes = (title == null ? "" : title).getBytes(StandardCharsets.UTF_8);
+                    titleBytes += bytes.length;
+                    if (layout.titles + titleBytes > Integer.MAX_VALUE) {
+                        throw new IOException("Snapshot would exceed 2 GiB at row " + row);
+                    }
+                    text.putBytes(bytes);
+                    index.putInt((int) titleBytes);
+                }
+                index.flush();
+                text.flush();
+                length = layout.titles + titleBytes;
+
+                writeHeader(channel, rows, layout);
+                channel.force(true);
+            }
+
+            try {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+            return length;
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int projectId(int row) {
+        return projectIds.get(row);
+    }
+
+    @Override
+    public int deadline(int row) {
+        return deadlines.get(row);
+    }
+
+    @Override
+    public long revenueCents(int row) {
+        return revenueCents.get(row);
+    }
+
+    @Override
+    public byte statusCode(int row) {
+        return statusCodes.get(row);
+    }
+
+    @Override
+    public String title(int row) {
+        int start = titleIndex.get(row);
+        byte[] bytes = new byte[titleIndex.get(row + 1) - start];
+        titles.get(start, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    public long getFileBytes() {
+        return fileBytes;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Snapshot [%s, rows=%d, %.1f MiB, v%d]",
+                file, size, fileBytes / (1024.0 * 1024.0), FORMAT_VERSION);
+    }
+
+    private static ByteBuffer section(MappedByteBuffer mapped, long offset, long length) throws IOException {
+        if (offset < HEADER_BYTES || offset + length > mapped.capacity()) {
+            throw new IOException("Snapshot section out of bounds at offset " + offset);
+        }
+        return mapped.slice((int) offset, (int) length).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    private static void writeHeader(FileChannel channel, int rows, Layout layout) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(MAGIC)
+                .putShort((short) FORMAT_VERSION)
+                .putShort((short) HEADER_BYTES)
+                .putInt(rows)
+                .putInt(0);
+        for (long offset : layout.sections()) {
+            header.putLong(offset);
+        }
+        header.flip();
+        while (header.hasRemaining()) {
+            channel.write(header, header.position());
+        }
+    }
+
+//  Section offsets for a given row count; everything before the titles is fixed-width
+
+    private static final class Layout {
+
+        private final long ids;
+        private final long deadlines;
+        private final long revenue;
+        private final long status;
+        private final long titleIndex;
+        private final long titles;
+
+        private Layout(int rows) {
+            this.ids = HEADER_BYTES;
+            this.deadlines = align(ids + (long) rows * Integer.BYTES);
+            this.revenue = align(deadlines + (long) rows * Integer.BYTES);
+            this.status = align(revenue + (long) rows * Long.BYTES);
+            this.titleIndex = align(status + rows);
+            this.titles = align(titleIndex + (rows + 1L) * Integer.BYTES);
+        }
+
+        static Layout of(int rows) {
+            return new Layout(rows);
+        }
+
+        long[] sections() {
+            return new long[] {ids, deadlines, revenue, status, titleIndex, titles};
+        }
+
+        boolean matches(long[] offsets) {
+            return Arrays.equals(sections(), offsets);
+        }
+
+        private static long align(long offset) {
+            return (offset + 7) & ~7L;
+        }
+    }
+
+//  Buffered sequential writes starting at a file position
+
+    private static final class SectionWriter {
+
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(WRITE_BUFFER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        private long position;
+
+        SectionWriter(FileChannel channel, long position) {
+            this.channel = channel;
+            this.position = position;
+        }
+
+        void seek(long position) throws IOException {
+            flush();
+            this.position = position;
+        }
+
+        void putInt(int value) throws IOException {
+            ensure(Integer.BYTES);
+            buffer.putInt(value);
+        }
+
+        void putLong(long value) throws IOException {
+            ensure(Long.BYTES);
+            buffer.putLong(value);
+        }
+
+        void putByte(byte value) throws IOException {
+            ensure(1);
+            buffer.put(value);
+        }
+
+        void putBytes(byte[] bytes) throws IOException {
+            int offset = 0;
+            while (offset < bytes.length) {
+                ensure(1);
+                int n = Math.min(buffer.remaining(), bytes.length - offset);
+                buffer.put(bytes, offset, n);
+                offset += n;
+            }
+        }
+
+        void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                position += channel.write(buffer, position);
+            }
+            buffer.clear();
+        }
+
+        private void ensure(int bytes) throws IOException {
+            if (buffer.remaining() < bytes) {
+                flush();
+            }
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.promanage.store;
+
+import com.promanage.model.ProjectStatus;
+
+//  Read access to a set of projects stored column by column
+//  Rows are addressed by index (0..size()-1); every accessor returns a
+//  primitive so scans over millions of rows allocate nothing.
+
+public interface ProjectColumns {
+
+    int size();
+
+    int projectId(int row);
+
+    int deadline(int row);
+
+    long revenueCents(int row);
+
+    byte statusCode(int row);
+
+    String title(int row);
+
+    default ProjectStatus status(int row) {
+        return ProjectStatus.fromCode(statusCode(row));
+    }
+}
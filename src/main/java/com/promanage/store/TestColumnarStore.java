@@ -0,0 +1,144 @@
+package com.promanage.store;
+
+import com.promanage.model.ProjectCandidate;
+import com.promanage.model.ProjectStatus;
+import com.promanage.service.engine.GreedySchedulingEngine;
+import com.promanage.service.engine.SchedulePlan;
+import com.promanage.service.engine.SlotAllocatorType;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+//  Cross-checks ColumnarScheduler against the greedy engine on random backlogs
+//  mixed with already scheduled rows, and verifies titles and revenue totals
+//  survive the round trip through the columns, and through a mapped snapshot.
+public class TestColumnarStore {
+
+    public static void main(String[] args) throws IOException {
+        System.out.println("=== Testing Columnar Project Store ===\n");
+
+        Random random = new Random(11);
+        int mismatches = 0;
+        int rounds = 2000;
+
+        for (int round = 0; round < rounds; round++) {
+            int horizonDays = 1 + random.nextInt(15);
+            int dayCapacity = 1 + random.nextInt(3);
+            int size = random.nextInt(300);
+
+            List<ProjectCandidate> pending = new ArrayList<>();
+            ColumnarProjectStore.Builder builder = new ColumnarProjectStore.Builder();
+            long pendingRevenue = 0;
+            for (int id = 1; id <= size; id++) {
+                ProjectCandidate candidate = new ProjectCandidate(id, 1 + random.nextInt(horizonDays),
+                        100_000L * (1 + random.nextInt(10)));
+                boolean isPending = random.nextInt(4) != 0;
+                if (isPending) {
+                    pending.add(candidate);
+                    pendingRevenue += candidate.revenueCents();
+                }
+                builder.add(id, candidate.deadline(), candidate.revenueCents(),
+                        isPending ? ProjectStatus.PENDING : ProjectStatus.SCHEDULED, "Project " + id);
+            }
+            Collections.shuffle(pending, random);
+            ColumnarProjectStore store = builder.build();
+
+            List<ProjectCandidate> ordered = new ArrayList<>(pending);
+            ordered.sort(ProjectCandidate::compareByPriority);
+            SchedulePlan greedy = new GreedySchedulingEngine(horizonDays, dayCapacity, SlotAllocatorType.ARRAY_SCAN)
+                    .schedule(ordered);
+            SchedulePlan columnar = new ColumnarScheduler(horizonDays, dayCapacity).schedule(store);
+
+            long greedyLost = greedy.getOmittedRevenueCents();
+            for (ProjectCandidate p : greedy.getUnscheduled()) {
+                greedyLost += p.revenueCents();
+            }
+
+            boolean titlesMatch = size == 0 || store.title(size - 1).equals("Project " + size);
+            if (!describe(greedy).equals(describe(columnar))
+                    || greedyLost != columnar.getOmittedRevenueCents()
+                    || greedy.getUnscheduled().size() != columnar.getOmittedCount()
+                    || store.totalRevenueCents(ProjectStatus.PENDING) != pendingRevenue
+                    || !titlesMatch) {
+                mismatches++;
+            }
+        }
+
+        System.out.println("  Rounds checked: " + rounds);
+        if (mismatches == 0) {
+            System.out.println("\n✓ Columnar scheduler matches the greedy engine!");
+        } else {
+            System.err.println("\n✗ " + mismatches + " rounds produced different results!");
+        }
+
+        testSnapshotRoundTrip(random);
+    }
+
+    private static void testSnapshotRoundTrip(Random random) throws IOException {
+        System.out.println("\n=== Testing Mapped Project Snapshot ===\n");
+
+        int size = 100_000;
+        ColumnarProjectStore.Builder builder = new ColumnarProjectStore.Builder();
+        for (int id = 1; id <= size; id++) {
+            // Empty, multi-byte and long titles exercise the title index
+            String title = (id % 1000 == 0) ? "" : (id % 7 == 0) ? "Projekt Größe №" + id : "Project " + id;
+            builder.add(id, 1 + random.nextInt(30), 100L * (1 + random.nextInt(100_000)),
+                    ProjectStatus.values()[random.nextInt(3)], id == size ? title.repeat(50) : title);
+        }
+        ColumnarProjectStore store = builder.build();
+
+        Path file = Files.createTempFile("promanage-snapshot", ".bin");
+        try {
+            long written = MappedProjectSnapshot.write(store, file);
+            long started = System.nanoTime();
+            MappedProjectSnapshot snapshot = MappedProjectSnapshot.open(file);
+            long openMicros = (System.nanoTime() - started) / 1_000;
+            System.out.println("  " + snapshot + " opened in " + openMicros + " µs");
+
+            int mismatches = (written == Files.size(file) && snapshot.size() == size) ? 0 : 1;
+            for (int row = 0; row < size; row++) {
+                if (snapshot.projectId(row) != store.projectId(row)
+                        || snapshot.deadline(row) != store.deadline(row)
+                        || snapshot.revenueCents(row) != store.revenueCents(row)
+                        || snapshot.statusCode(row) != store.statusCode(row)
+                        || !snapshot.title(row).equals(store.title(row))) {
+                    mismatches++;
+                }
+            }
+            ColumnarScheduler scheduler = new ColumnarScheduler(30, 2);
+            if (!describe(scheduler.schedule(store)).equals(describe(scheduler.schedule(snapshot)))) {
+                mismatches++;
+            }
+
+            // Anything but a snapshot is refused when opened
+            Files.write(file, new byte[] {1, 2, 3});
+            try {
+                MappedProjectSnapshot.open(file);
+                mismatches++;
+            } catch (IOException expected) {
+                // rejected as it should be
+            }
+
+            if (mismatches == 0) {
+                System.out.println("\n✓ Snapshot reads back every column and schedules identically!");
+            } else {
+                System.err.println("\n✗ " + mismatches + " snapshot rows or checks differ!");
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static String describe(SchedulePlan plan) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < plan.getScheduled().size(); i++) {
+            sb.append(plan.getScheduled().get(i).projectId()).append('@').append(plan.getDayNumber(i)).append(' ');
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,161 @@
+package com.promanage.utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Properties;
+
+//  Central access point for application settings
+//  Values are read from promanage.properties on the classpath and can be
+//  overridden with environment variables (db.password -> PROMANAGE_DB_PASSWORD)
+//  or JVM system properties, e.g. -Dscheduler.horizonDays=30
+
+public final class AppConfig {
+
+    private static final String CONFIG_FILE = "promanage.properties";
+
+    public static final String DB_URL = "db.url";
+    public static final String DB_USERNAME = "db.username";
+    public static final String DB_PASSWORD = "db.password";
+    public static final String DB_FETCH_SIZE = "db.fetchSize";
+    public static final String DB_INSERT_CHUNK_SIZE = "db.insertChunkSize";
+    public static final String POOL_MIN_SIZE = "db.pool.minSize";
+    public static final String POOL_MAX_SIZE = "db.pool.maxSize";
+    public static final String POOL_BORROW_TIMEOUT_MS = "db.pool.borrowTimeoutMs";
+    public static final String POOL_IDLE_TIMEOUT_MS = "db.pool.idleTimeoutMs";
+    public static final String POOL_EVICTION_INTERVAL_MS = "db.pool.evictionIntervalMs";
+    public static final String POOL_VALIDATION_INTERVAL_MS = "db.pool.validationIntervalMs";
+    public static final String POOL_VALIDATION_TIMEOUT_SECONDS = "db.pool.validationTimeoutSeconds";
+
+    public static final String HORIZON_DAYS = "scheduler.horizonDays";
+    public static final String SLOT_ALLOCATOR = "scheduler.slotAllocator";
+    public static final String DAY_CAPACITY = "scheduler.dayCapacity";
+    public static final String SCHEDULING_ENGINE = "scheduler.engine";
+    public static final String CANDIDATE_PUSHDOWN = "scheduler.candidatePushdown";
+    public static final String INCREMENTAL_SCHEDULING = "scheduler.incremental";
+    public static final String MEMOIZE_RESULTS = "scheduler.memoizeResults";
+    public static final String PERSIST_SCHEDULES = "scheduler.persistSchedules";
+    public static final String CACHE_ENABLED = "cache.enabled";
+    public static final String CACHE_MAX_PROJECTS = "cache.maxProjects";
+    public static final String CACHE_MAX_LISTING_SIZE = "cache.maxListingSize";
+    public static final String CACHE_WARM_UP = "cache.warmUp";
+    public static final String ARCHIVE_RETENTION_DAYS = "archive.retentionDays";
+    public static final String ARCHIVE_BATCH_SIZE = "archive.batchSize";
+    public static final String ARCHIVE_PAUSE_MS = "archive.pauseMs";
+    public static final String INGEST_CAPACITY = "ingest.capacity";
+    public static final String INGEST_BATCH_SIZE = "ingest.batchSize";
+    public static final String INGEST_FLUSH_INTERVAL_MS = "ingest.flushIntervalMs";
+    public static final String INGEST_OFFER_TIMEOUT_MS = "ingest.offerTimeoutMs";
+
+    public static final int DEFAULT_HORIZON_DAYS = 5; // Monday to Friday
+    public static final int DEFAULT_DAY_CAPACITY = 1; // One delivery crew
+
+    private static final Properties properties = load();
+
+    // Private constructor to prevent instantiation
+    private AppConfig() {
+    }
+
+    private static Properties load() {
+        Properties props = new Properties();
+        try (InputStream in = AppConfig.class.getClassLoader().getResourceAsStream(CONFIG_FILE)) {
+            if (in != null) {
+                props.load(in);
+            }
+        } catch (IOException e) {
+            System.err.println("✗ Failed to read " + CONFIG_FILE + ": " + e.getMessage());
+        }
+        return props;
+    }
+
+//  Get a string setting
+//  System properties take precedence over environment variables,
+//  which take precedence over promanage.properties
+
+    public static String getString(String key, String defaultValue) {
+        String value = System.getProperty(key);
+        if (value == null) {
+            value = System.getenv(toEnvironmentName(key));
+        }
+        if (value == null) {
+            value = properties.getProperty(key);
+        }
+        return (value == null || value.trim().isEmpty()) ? defaultValue : value.trim();
+    }
+
+//  Get an integer setting, falling back to the default if missing or malformed
+
+    public static int getInt(String key, int defaultValue) {
+        String value = getString(key, null);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            System.err.println("✗ Invalid value for " + key + ": " + value + " (using " + defaultValue + ")");
+            return defaultValue;
+        }
+    }
+
+//  Get a long setting, falling back to the default if missing or malformed
+
+    public static long getLong(String key, long defaultValue) {
+        String value = getString(key, null);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            System.err.println("✗ Invalid value for " + key + ": " + value + " (using " + defaultValue + ")");
+            return defaultValue;
+        }
+    }
+
+//  Environment variable consulted for a key, e.g. db.pool.maxSize -> PROMANAGE_DB_POOL_MAXSIZE
+
+    static String toEnvironmentName(String key) {
+        return "PROMANAGE_" + key.replace('.', '_').toUpperCase();
+    }
+
+//  Number of working days a schedule is planned over
+//  Also the upper bound for a project deadline
+
+    public static int getHorizonDays() {
+        int horizonDays = getInt(HORIZON_DAYS, DEFAULT_HORIZON_DAYS);
+        return horizonDays > 0 ? horizonDays : DEFAULT_HORIZON_DAYS;
+    }
+
+//  Number of projects that can be completed on a single day
+
+    public static int getDayCapacity() {
+        int dayCapacity = getInt(DAY_CAPACITY, DEFAULT_DAY_CAPACITY);
+        return dayCapacity > 0 ? dayCapacity : DEFAULT_DAY_CAPACITY;
+    }
+
+//  Whether generateSchedule prunes hopeless projects in the database
+
+    public static boolean isCandidatePushdownEnabled() {
+        return Boolean.parseBoolean(getString(CANDIDATE_PUSHDOWN, "false"));
+    }
+
+//  Whether the scheduling service keeps a live plan between runs
+
+    public static boolean isIncrementalSchedulingEnabled() {
+        return Boolean.parseBoolean(getString(INCREMENTAL_SCHEDULING, "false"));
+    }
+
+//  Whether schedules are reused until the pending-set version moves
+//  Needs the projects_version table (migrations/003_projects_version.sql)
+
+    public static boolean isResultMemoizationEnabled() {
+        return Boolean.parseBoolean(getString(MEMOIZE_RESULTS, "false"));
+    }
+
+//  Whether generated schedules are stored in the schedule table
+//  Needs the partitioned table (migrations/004_partitioned_schedule.sql)
+
+    public static boolean isSchedulePersistenceEnabled() {
+        return Boolean.parseBoolean(getString(PERSIST_SCHEDULES, "false"));
+    }
+}
@@ -0,0 +1,404 @@
+package com.promanage.utils;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+//  Bounded, thread-safe pool of PostgreSQL connections
+//  Callers borrow a connection and return it by closing it; the close() call
+//  is intercepted and hands the physical connection back to the pool.
+//
+//  - At most maxSize connections are lent out at once; further callers wait
+//    up to borrowTimeoutMs for one to be returned
+//  - Connections that sat idle longer than validationIntervalMs are checked
+//    with Connection.isValid() before being handed out
+//  - Idle connections above minSize are closed after idleTimeoutMs
+//  - Returned connections are rolled back and put back in autocommit mode
+
+public class ConnectionPool implements AutoCloseable {
+
+    private final String url;
+    private final Properties connectionProperties;
+    private final int minSize;
+    private final int maxSize;
+    private final long borrowTimeoutMs;
+    private final long idleTimeoutMs;
+    private final long validationIntervalMs;
+    private final int validationTimeoutSeconds;
+
+    private final Semaphore permits;
+    // Most recently returned connection first, so rarely used ones age out
+    private final LinkedBlockingDeque<PooledConnection> idle = new LinkedBlockingDeque<>();
+    private final Set<PooledConnection> allConnections = ConcurrentHashMap.newKeySet();
+    private final ScheduledExecutorService evictor;
+    private volatile boolean closed;
+
+    private final AtomicInteger activeCount = new AtomicInteger();
+    private final AtomicLong borrowCount = new AtomicLong();
+    private final AtomicLong createdCount = new AtomicLong();
+    private final AtomicLong evictedCount = new AtomicLong();
+    private final AtomicLong validationFailureCount = new AtomicLong();
+    private final AtomicLong timeoutCount = new AtomicLong();
+    private final AtomicBoolean announced = new AtomicBoolean();
+
+    public ConnectionPool(String url, String username, String password,
+                          int minSize, int maxSize, long borrowTimeoutMs, long idleTimeoutMs,
+                          long evictionIntervalMs, long validationIntervalMs, int validationTimeoutSeconds) {
+        if (minSize < 0 || maxSize <= 0 || minSize > maxSize) {
+            throw new IllegalArgumentException("Invalid pool size: min=" + minSize + ", max=" + maxSize);
+        }
+        this.url = url;
+        this.connectionProperties = new Properties();
+        connectionProperties.setProperty("user", username);
+        connectionProperties.setProperty("password", password);
+        connectionProperties.setProperty("ApplicationName", "ProManage");
+        // Lets pgjdbc rewrite INSERT batches into multi-row INSERTs; a
+        // reWriteBatchedInserts parameter in the URL still takes precedence
+        connectionProperties.setProperty("reWriteBatchedInserts", "true");
+        this.minSize = minSize;
+        this.maxSize = maxSize;
+        this.borrowTimeoutMs = borrowTimeoutMs;
+        this.idleTimeoutMs = idleTimeoutMs;
+        this.validationIntervalMs = validationIntervalMs;
+        this.validationTimeoutSeconds = validationTimeoutSeconds;
+        this.permits = new Semaphore(maxSize, true);
+
+        this.evictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "promanage-pool-evictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        evictor.scheduleWithFixedDelay(this::evictIdleConnections,
+                evictionIntervalMs, evictionIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+//  Create a pool from the db.* settings in promanage.properties
+
+    public static ConnectionPool fromConfig() {
+        return new ConnectionPool(
+                AppConfig.getString(AppConfig.DB_URL, "jdbc:postgresql://localhost:5432/projectscheduledb"),
+                AppConfig.getString(AppConfig.DB_USERNAME, "postgres"),
+                AppConfig.getString(AppConfig.DB_PASSWORD, ""),
+                AppConfig.getInt(AppConfig.POOL_MIN_SIZE, 1),
+                AppConfig.getInt(AppConfig.POOL_MAX_SIZE, 10),
+                AppConfig.getLong(AppConfig.POOL_BORROW_TIMEOUT_MS, 30_000),
+                AppConfig.getLong(AppConfig.POOL_IDLE_TIMEOUT_MS, 600_000),
+                AppConfig.getLong(AppConfig.POOL_EVICTION_INTERVAL_MS, 60_000),
+                AppConfig.getLong(AppConfig.POOL_VALIDATION_INTERVAL_MS, 5_000),
+                AppConfig.getInt(AppConfig.POOL_VALIDATION_TIMEOUT_SECONDS, 2));
+    }
+
+//  Borrow a connection; close() it to give it back
+//  @throws SQLException if the pool is closed, no connection frees up in time,
+//          or a new connection cannot be opened
+
+    public Connection borrow() throws SQLException {
+        ensureOpen();
+
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(borrowTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a database connection", e);
+        }
+        if (!acquired) {
+            timeoutCount.incrementAndGet();
+            throw new SQLException("Timed out after " + borrowTimeoutMs + " ms waiting for a database connection "
+                    + "(" + activeCount.get() + "/" + maxSize + " in use)");
+        }
+
+        try {
+            ensureOpen();
+            PooledConnection pooled = takeValidIdleConnection();
+            if (pooled == null) {
+                pooled = openConnection();
+            }
+            activeCount.incrementAndGet();
+            borrowCount.incrementAndGet();
+            return pooled.lease();
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+//  Open connections until minSize are idle; failures are reported, not thrown
+
+    public void warmUp() {
+        try {
+            while (!closed && allConnections.size() < minSize) {
+                PooledConnection pooled = openConnection();
+                pooled.lastReturnedAt = System.currentTimeMillis();
+                idle.offerLast(pooled);
+            }
+        } catch (SQLException e) {
+            System.err.println("✗ Failed to warm up connection pool: " + e.getMessage());
+        }
+    }
+
+    public Stats getStats() {
+        return new Stats(allConnections.size(), activeCount.get(), idle.size(), maxSize,
+                permits.getQueueLength(), borrowCount.get(), createdCount.get(),
+                evictedCount.get(), validationFailureCount.get(), timeoutCount.get());
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+//  Close every connection, including ones still lent out, and stop eviction
+
+    @Override
+    public void close() {
+        closed = true;
+        evictor.shutdownNow();
+        for (PooledConnection pooled : allConnections) {
+            discard(pooled);
+        }
+        idle.clear();
+    }
+
+    private PooledConnection takeValidIdleConnection() {
+        PooledConnection pooled;
+        while ((pooled = idle.pollFirst()) != null) {
+            if (isUsable(pooled)) {
+                return pooled;
+            }
+            validationFailureCount.incrementAndGet();
+            discard(pooled);
+        }
+        return null;
+    }
+
+    private boolean isUsable(PooledConnection pooled) {
+        try {
+            if (pooled.physical.isClosed()) {
+                return false;
+            }
+            long idleFor = System.currentTimeMillis() - pooled.lastReturnedAt;
+            return idleFor < validationIntervalMs || pooled.physical.isValid(validationTimeoutSeconds);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private PooledConnection openConnection() throws SQLException {
+        try {
+            Connection physical = DriverManager.getConnection(url, connectionProperties);
+            PooledConnection pooled = new PooledConnection(physical);
+            allConnections.add(pooled);
+            createdCount.incrementAndGet();
+            if (announced.compareAndSet(false, true)) {
+                System.out.println("✓ Database connection established successfully!");
+            }
+            return pooled;
+        } catch (SQLException e) {
+            System.err.println("✗ Failed to connect to database!");
+            System.err.println("Error: " + e.getMessage());
+            throw e;
+        }
+    }
+
+    private void release(PooledConnection pooled) {
+        activeCount.decrementAndGet();
+        try {
+            if (closed || pooled.physical.isClosed()) {
+                discard(pooled);
+                return;
+            }
+            if (!pooled.physical.getAutoCommit()) {
+                pooled.physical.rollback();
+                pooled.physical.setAutoCommit(true);
+            }
+            pooled.lastReturnedAt = System.currentTimeMillis();
+            idle.offerFirst(pooled);
+            if (closed && idle.remove(pooled)) {
+                discard(pooled);
+            }
+        } catch (SQLException e) {
+            discard(pooled);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private void evictIdleConnections() {
+        long cutoff = System.currentTimeMillis() - idleTimeoutMs;
+        while (allConnections.size() > minSize) {
+            PooledConnection oldest = idle.pollLast();
+            if (oldest == null) {
+                return;
+            }
+            if (oldest.lastReturnedAt > cutoff) {
+                idle.offerLast(oldest);
+                return;
+            }
+            evictedCount.incrementAndGet();
+            discard(oldest);
+        }
+    }
+
+    private void discard(PooledConnection pooled) {
+        allConnections.remove(pooled);
+        try {
+            pooled.physical.close();
+        } catch (SQLException e) {
+            System.err.println("✗ Error closing pooled connection: " + e.getMessage());
+        }
+    }
+
+    private void ensureOpen() throws SQLException {
+        if (closed) {
+            throw new SQLException("Connection pool has been closed");
+        }
+    }
+
+    // A physical connection plus the bookkeeping the pool needs for it
+    private final class PooledConnection {
+        private final Connection physical;
+        private volatile long lastReturnedAt;
+
+        private PooledConnection(Connection physical) {
+            this.physical = physical;
+        }
+
+        private Connection lease() {
+            return (Connection) Proxy.newProxyInstance(
+                    Connection.class.getClassLoader(),
+                    new Class<?>[]{Connection.class},
+                    new Lease(this));
+        }
+    }
+
+    // The handle given to callers; valid until its first close()
+    private final class Lease implements InvocationHandler {
+        private final PooledConnection pooled;
+        private final AtomicBoolean returned = new AtomicBoolean();
+
+        private Lease(PooledConnection pooled) {
+            this.pooled = pooled;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (returned.compareAndSet(false, true)) {
+                        release(pooled);
+                    }
+                    return null;
+                case "isClosed":
+                    return returned.get() || pooled.physical.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "PooledConnection[" + pooled.physical + (returned.get() ? ", returned]" : "]");
+                default:
+                    if (returned.get()) {
+                        throw new SQLException("Connection has already been returned to the pool");
+                    }
+                    try {
+                        return method.invoke(pooled.physical, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+            }
+        }
+    }
+
+//  Point-in-time view of pool usage
+
+    public static final class Stats {
+        private final int openConnections;
+        private final int activeConnections;
+        private final int idleConnections;
+        private final int maxSize;
+        private final int waitingThreads;
+        private final long borrowCount;
+        private final long createdCount;
+        private final long evictedCount;
+        private final long validationFailures;
+        private final long borrowTimeouts;
+
+        private Stats(int openConnections, int activeConnections, int idleConnections, int maxSize,
+                      int waitingThreads, long borrowCount, long createdCount, long evictedCount,
+                      long validationFailures, long borrowTimeouts) {
+            this.openConnections = openConnections;
+            this.activeConnections = activeConnections;
+            this.idleConnections = idleConnections;
+            this.maxSize = maxSize;
+            this.waitingThreads = waitingThreads;
+            this.borrowCount = borrowCount;
+            this.createdCount = createdCount;
+            this.evictedCount = evictedCount;
+            this.validationFailures = validationFailures;
+            this.borrowTimeouts = borrowTimeouts;
+        }
+
+        public int getOpenConnections() {
+            return openConnections;
+        }
+
+        public int getActiveConnections() {
+            return activeConnections;
+        }
+
+        public int getIdleConnections() {
+            return idleConnections;
+        }
+
+        public int getMaxSize() {
+            return maxSize;
+        }
+
+        public int getWaitingThreads() {
+            return waitingThreads;
+        }
+
+        public long getBorrowCount() {
+            return borrowCount;
+        }
+
+        public long getCreatedCount() {
+            return createdCount;
+        }
+
+        public long getEvictedCount() {
+            return evictedCount;
+        }
+
+        public long getValidationFailures() {
+            return validationFailures;
+        }
+
+        public long getBorrowTimeouts() {
+            return borrowTimeouts;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Pool [open=%d, active=%d, idle=%d, max=%d, waiting=%d, borrowed=%d, "
+                            + "created=%d, evicted=%d, validationFailures=%d, timeouts=%d]",
+                    openConnections, activeConnections, idleConnections, maxSize, waitingThreads,
+                    borrowCount, createdCount, evictedCount, validationFailures, borrowTimeouts);
+        }
+    }
+}
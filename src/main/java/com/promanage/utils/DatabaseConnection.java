@@ -1,65 +1,59 @@
 package com.promanage.utils;
 
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.SQLException;
 
 //  Utility class to manage PostgreSQL database connections
-//  Implements Singleton pattern to ensure single connection instance
+//  Backed by a shared ConnectionPool configured from promanage.properties
+//  (db.url, db.username, db.password, db.pool.*)
 
 public class DatabaseConnection {
 
-    // Database credentials - UPDATE THESE WITH YOUR DETAILS
-    private static final String URL = "jdbc:postgresql://localhost:5432/projectscheduledb";
-    private static final String USERNAME = "postgres";
-    private static final String PASSWORD = "toor";  // UPDATE THIS
-
-    private static Connection connection = null;
+    private static volatile ConnectionPool pool;
 
     // Private constructor to prevent instantiation
     private DatabaseConnection() {
     }
 
-//  Get database connection
-//  Creates new connection if none exists, returns existing connection otherwise
+//  Borrow a connection from the pool
+//  Close it (try-with-resources) to return it; the physical connection stays open
 //  @return Connection object
-//  @throws SQLException if connection fails
+//  @throws SQLException if no connection could be obtained
 
     public static Connection getConnection() throws SQLException {
-        try {
-            // Load PostgreSQL JDBC Driver
-            Class.forName("org.postgresql.Driver");
+        return getPool().borrow();
+    }
 
-            // Check if connection is null or closed
-            if (connection == null || connection.isClosed()) {
-                connection = DriverManager.getConnection(URL, USERNAME, PASSWORD);
-                System.out.println("✓ Database connection established successfully!");
+//  Get the shared pool, creating it on first use
+
+    public static ConnectionPool getPool() {
+        ConnectionPool current = pool;
+        if (current == null || current.isClosed()) {
+            synchronized (DatabaseConnection.class) {
+                if (pool == null || pool.isClosed()) {
+                    pool = ConnectionPool.fromConfig();
+                    pool.warmUp();
+                }
+                current = pool;
             }
-
-            return connection;
-
-        } catch (ClassNotFoundException e) {
-            System.err.println("✗ PostgreSQL JDBC Driver not found!");
-            throw new SQLException("Driver not found", e);
-
-        } catch (SQLException e) {
-            System.err.println("✗ Failed to connect to database!");
-            System.err.println("Error: " + e.getMessage());
-            throw e;
         }
+        return current;
+    }
+
+    public static ConnectionPool.Stats getPoolStats() {
+        return getPool().getStats();
     }
 
-//  Close database connection
+//  Close all pooled connections
 //  Should be called when application exits
 
     public static void closeConnection() {
-        try {
-            if (connection != null && !connection.isClosed()) {
-                connection.close();
+        synchronized (DatabaseConnection.class) {
+            if (pool != null && !pool.isClosed()) {
+                pool.close();
                 System.out.println("✓ Database connection closed successfully!");
             }
-        } catch (SQLException e) {
-            System.err.println("✗ Error closing database connection: " + e.getMessage());
+            pool = null;
         }
     }
 
@@ -67,11 +61,10 @@ public class DatabaseConnection {
 //  @return true if connection successful, false otherwise
 
     public static boolean testConnection() {
-        try {
-            Connection conn = getConnection();
-            if (conn != null && !conn.isClosed()) {
+        try (Connection conn = getConnection()) {
+            if (conn != null && conn.isValid(2)) {
                 System.out.println("✓ Database connection test successful!");
-                System.out.println("  Connected to: " + URL);
+                System.out.println("  Connected to: " + conn.getMetaData().getURL());
                 return true;
             }
         } catch (SQLException e) {
@@ -80,4 +73,4 @@ public class DatabaseConnection {
         }
         return false;
     }
-}
\ No newline at end of file
+}
@@ -13,8 +13,7 @@ public class TestConnection {
     public static void main(String[] args) {
         System.out.println("=== Testing Database Connection ===\n");
         
-        try {
-            Connection conn = DatabaseConnection.getConnection();
+        try (Connection conn = DatabaseConnection.getConnection()) {
             
             if (conn != null) {
                 System.out.println("\n=== Testing Database Query ===");
@@ -38,6 +37,7 @@ public class TestConnection {
                 rs.close();
                 stmt.close();
                 
+                System.out.println("\n" + DatabaseConnection.getPoolStats());
                 System.out.println("\n✓ All tests passed successfully!");
             }
             
@@ -0,0 +1,23 @@
+-- Migration 001: make the planning horizon configurable
+-- Replaces the hard-coded "<= 5" deadline/day checks with named constraints
+-- bounded by horizon_days.
+-- Usage: psql -v horizon_days=30 -f migrations/001_configurable_horizon.sql
+
+\if :{?horizon_days}
+\else
+\set horizon_days 5
+\endif
+
+BEGIN;
+
+ALTER TABLE projects DROP CONSTRAINT IF EXISTS projects_deadline_check;
+ALTER TABLE projects DROP CONSTRAINT IF EXISTS chk_deadline;
+ALTER TABLE projects
+    ADD CONSTRAINT chk_deadline CHECK (deadline > 0 AND deadline <= :horizon_days);
+
+ALTER TABLE schedule DROP CONSTRAINT IF EXISTS schedule_day_number_check;
+ALTER TABLE schedule DROP CONSTRAINT IF EXISTS chk_day_number;
+ALTER TABLE schedule
+    ADD CONSTRAINT chk_day_number CHECK (day_number >= 1 AND day_number <= :horizon_days);
+
+COMMIT;
@@ -0,0 +1,36 @@
+-- Migration 002: compact status encoding and covering index for the pending scan
+-- Converts projects.status from VARCHAR to SMALLINT
+--   0 = PENDING, 1 = SCHEDULED, 2 = COMPLETED (see ProjectStatus.java)
+-- and adds a partial covering index so the scheduler's pending read can be
+-- served by an index-only scan.
+-- Usage: psql -d projectscheduledb -f migrations/002_status_smallint_and_pending_index.sql
+
+BEGIN;
+
+ALTER TABLE projects DROP CONSTRAINT IF EXISTS chk_status;
+DROP INDEX IF EXISTS idx_projects_status;
+
+ALTER TABLE projects ALTER COLUMN status DROP DEFAULT;
+
+-- Rows that never had a status set are treated as PENDING
+ALTER TABLE projects ALTER COLUMN status TYPE SMALLINT USING (
+    CASE status
+        WHEN 'SCHEDULED' THEN 1
+        WHEN 'COMPLETED' THEN 2
+        ELSE 0
+    END);
+
+ALTER TABLE projects ALTER COLUMN status SET DEFAULT 0;
+ALTER TABLE projects ALTER COLUMN status SET NOT NULL;
+ALTER TABLE projects ADD CONSTRAINT chk_status CHECK (status IN (0, 1, 2));
+
+CREATE INDEX idx_projects_status ON projects(status);
+
+COMMIT;
+
+-- Built outside the transaction so writers are not blocked on large tables
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_projects_pending_revenue
+    ON projects (revenue DESC, project_id) INCLUDE (deadline) WHERE status = 0;
+
+-- Index-only scans need an up-to-date visibility map
+VACUUM ANALYZE projects;
@@ -0,0 +1,37 @@
+-- Migration 003: change counter for the pending set
+-- Adds projects_version, a single-row counter bumped by a statement-level
+-- trigger whenever projects rows are inserted, deleted, truncated or have
+-- their status, deadline or revenue updated. SchedulingService reuses a
+-- computed schedule until the counter moves (scheduler.memoizeResults=true).
+-- Writers serialize briefly on the counter row; that is the price of the
+-- cheap version check.
+-- Superseded by migration 006, which bumps the counter only for statements
+-- that touch PENDING rows; run 006 after this one.
+-- Usage: psql -d projectscheduledb -f migrations/003_projects_version.sql
+
+BEGIN;
+
+CREATE TABLE IF NOT EXISTS projects_version (
+    id BOOLEAN PRIMARY KEY DEFAULT TRUE CHECK (id),
+    version BIGINT NOT NULL DEFAULT 0
+);
+INSERT INTO projects_version DEFAULT VALUES ON CONFLICT DO NOTHING;
+
+CREATE OR REPLACE FUNCTION bump_projects_version() RETURNS trigger AS $$
+BEGIN
+    UPDATE projects_version SET version = version + 1;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_projects_version ON projects;
+CREATE TRIGGER trg_projects_version
+    AFTER INSERT OR DELETE OR UPDATE OF status, deadline, revenue ON projects
+    FOR EACH STATEMENT EXECUTE FUNCTION bump_projects_version();
+
+DROP TRIGGER IF EXISTS trg_projects_version_truncate ON projects;
+CREATE TRIGGER trg_projects_version_truncate
+    AFTER TRUNCATE ON projects
+    FOR EACH STATEMENT EXECUTE FUNCTION bump_projects_version();
+
+COMMIT;
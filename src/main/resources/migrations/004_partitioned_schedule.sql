@@ -0,0 +1,72 @@
+-- Migration 004: partition the schedule table by week
+-- Recreates schedule as a table partitioned by week_start_date (one partition
+-- per year, named schedule_yYYYY) and replaces unique_day_per_week, which
+-- allowed only one project per day, with one slot per project within a day:
+--   PRIMARY KEY (week_start_date, project_id)
+--   UNIQUE (week_start_date, day_number, slot)
+-- Existing rows are copied over with slots numbered by schedule_id. day_number
+-- is the working day within the week (1-5); legacy rows planned further out
+-- (day_number up to the horizon) move to the matching day of a later week.
+-- Usage: psql -f migrations/004_partitioned_schedule.sql
+
+BEGIN;
+
+ALTER TABLE schedule RENAME TO schedule_legacy;
+ALTER TABLE schedule_legacy DROP CONSTRAINT IF EXISTS fk_project;
+DROP INDEX IF EXISTS idx_schedule_week;
+
+CREATE TABLE schedule (
+                          week_start_date DATE NOT NULL,
+                          project_id INTEGER NOT NULL,
+                          day_number INTEGER NOT NULL,
+                          slot INTEGER NOT NULL DEFAULT 1,
+                          day_name VARCHAR(10) NOT NULL,
+                          scheduled_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+                          CONSTRAINT pk_schedule PRIMARY KEY (week_start_date, project_id),
+                          CONSTRAINT unique_slot_per_week UNIQUE (week_start_date, day_number, slot),
+                          CONSTRAINT chk_day_number CHECK (day_number BETWEEN 1 AND 5), -- working day within the week
+                          CONSTRAINT chk_slot CHECK (slot >= 1),
+                          CONSTRAINT chk_week_start CHECK (EXTRACT(ISODOW FROM week_start_date) = 1),
+                          CONSTRAINT fk_project FOREIGN KEY (project_id) REFERENCES projects(project_id) ON DELETE CASCADE,
+                          CONSTRAINT chk_day_name CHECK (day_name IN ('Monday', 'Tuesday', 'Wednesday', 'Thursday', 'Friday'))
+) PARTITION BY RANGE (week_start_date);
+
+CREATE INDEX idx_schedule_project ON schedule(project_id, week_start_date);
+
+-- One partition per year that has history, plus the current one
+DO $$
+DECLARE
+    y INTEGER;
+BEGIN
+    FOR y IN
+        SELECT DISTINCT EXTRACT(YEAR FROM date_trunc('week', week_start_date)::date
+                                          + 7 * ((day_number - 1) / 5))::int
+        FROM schedule_legacy
+        UNION
+        SELECT EXTRACT(YEAR FROM CURRENT_DATE)::int
+    LOOP
+        EXECUTE format('CREATE TABLE schedule_y%s PARTITION OF schedule FOR VALUES FROM (%L) TO (%L)',
+                       y, make_date(y, 1, 1), make_date(y + 1, 1, 1));
+    END LOOP;
+END
+$$;
+
+-- Legacy rows were not required to start on a Monday; they are moved to the
+-- Monday of their week, and days past Friday to the weeks that follow
+INSERT INTO schedule (week_start_date, project_id, day_number, slot, day_name, scheduled_at)
+SELECT week_start_date, project_id, day_number,
+       row_number() OVER (PARTITION BY week_start_date, day_number ORDER BY schedule_id),
+       (ARRAY['Monday', 'Tuesday', 'Wednesday', 'Thursday', 'Friday'])[day_number],
+       scheduled_at
+FROM (
+    SELECT date_trunc('week', week_start_date)::date + 7 * ((day_number - 1) / 5) AS week_start_date,
+           project_id, (day_number - 1) % 5 + 1 AS day_number, schedule_id, scheduled_at
+    FROM schedule_legacy
+) legacy
+ON CONFLICT DO NOTHING;
+
+DROP TABLE schedule_legacy;
+
+COMMIT;
+
+ANALYZE schedule;
@@ -0,0 +1,53 @@
+-- Migration 005: hot/cold split for completed projects
+-- Adds projects.completed_at (maintained by a trigger), the projects_archive
+-- table that ProjectArchiver moves old completed projects into, and drops the
+-- schedule -> projects foreign key so schedule history survives archiving.
+-- Usage: psql -d projectscheduledb -f migrations/005_archive_completed_projects.sql
+
+BEGIN;
+
+ALTER TABLE projects ADD COLUMN IF NOT EXISTS completed_at TIMESTAMP;
+
+-- The completion time of existing COMPLETED rows is unknown; count their
+-- retention from now
+UPDATE projects SET completed_at = CURRENT_TIMESTAMP WHERE status = 2 AND completed_at IS NULL;
+
+CREATE TABLE IF NOT EXISTS projects_archive (
+                          project_id INTEGER PRIMARY KEY,
+                          title VARCHAR(200) NOT NULL,
+                          deadline INTEGER NOT NULL,
+                          revenue DECIMAL(10, 2) NOT NULL,
+                          status SMALLINT NOT NULL,
+                          created_at TIMESTAMP,
+                          completed_at TIMESTAMP,
+                          archived_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+CREATE INDEX IF NOT EXISTS idx_projects_archive_completed ON projects_archive (completed_at);
+
+CREATE OR REPLACE FUNCTION set_completed_at() RETURNS trigger AS $$
+BEGIN
+    IF NEW.status = 2 THEN
+        NEW.completed_at := COALESCE(NEW.completed_at, CURRENT_TIMESTAMP);
+    ELSE
+        NEW.completed_at := NULL;
+    END IF;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_projects_completed_at ON projects;
+CREATE TRIGGER trg_projects_completed_at
+    BEFORE UPDATE OF status ON projects
+    FOR EACH ROW WHEN (OLD.status IS DISTINCT FROM NEW.status) EXECUTE FUNCTION set_completed_at();
+DROP TRIGGER IF EXISTS trg_projects_completed_at_insert ON projects;
+CREATE TRIGGER trg_projects_completed_at_insert
+    BEFORE INSERT ON projects
+    FOR EACH ROW WHEN (NEW.status = 2) EXECUTE FUNCTION set_completed_at();
+
+ALTER TABLE schedule DROP CONSTRAINT IF EXISTS fk_project;
+
+COMMIT;
+
+-- Built outside the transaction so writers are not blocked on large tables
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_projects_completed
+    ON projects (completed_at, project_id) WHERE status = 2;
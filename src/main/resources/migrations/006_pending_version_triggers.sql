@@ -0,0 +1,55 @@
+-- Migration 006: bump projects_version only for the pending set
+-- Migration 003 bumped the counter on every insert or delete on projects and
+-- on every status, deadline or revenue update, so archiving COMPLETED rows or
+-- completing a project invalidated memoized schedules and queued behind the
+-- counter row lock. The triggers now read their transition tables and bump
+-- only when a statement inserts, deletes or changes a row that is PENDING
+-- before or after it.
+-- Usage: psql -d projectscheduledb -f migrations/006_pending_version_triggers.sql
+
+BEGIN;
+
+-- The old trigger would run the new function without transition tables
+DROP TRIGGER IF EXISTS trg_projects_version ON projects;
+
+-- Statements that only touch SCHEDULED or COMPLETED rows (archiving, marking a
+-- project completed) leave the counter, and so its row lock, alone. Each branch
+-- reads only the transition table its trigger declares.
+CREATE OR REPLACE FUNCTION bump_projects_version() RETURNS trigger AS $$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        IF NOT EXISTS (SELECT 1 FROM new_rows WHERE status = 0) THEN
+            RETURN NULL;
+        END IF;
+    ELSIF TG_OP = 'DELETE' THEN
+        IF NOT EXISTS (SELECT 1 FROM old_rows WHERE status = 0) THEN
+            RETURN NULL;
+        END IF;
+    ELSIF TG_OP = 'UPDATE' THEN
+        IF NOT EXISTS (SELECT 1 FROM old_rows o JOIN new_rows n USING (project_id)
+                       WHERE (o.status = 0 OR n.status = 0)
+                         AND (o.status, o.deadline, o.revenue)
+                             IS DISTINCT FROM (n.status, n.deadline, n.revenue)) THEN
+            RETURN NULL;
+        END IF;
+    END IF;
+    UPDATE projects_version SET version = version + 1;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Transition tables need one trigger per event and no column list
+DROP TRIGGER IF EXISTS trg_projects_version_insert ON projects;
+CREATE TRIGGER trg_projects_version_insert
+    AFTER INSERT ON projects REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION bump_projects_version();
+DROP TRIGGER IF EXISTS trg_projects_version_delete ON projects;
+CREATE TRIGGER trg_projects_version_delete
+    AFTER DELETE ON projects REFERENCING OLD TABLE AS old_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION bump_projects_version();
+DROP TRIGGER IF EXISTS trg_projects_version_update ON projects;
+CREATE TRIGGER trg_projects_version_update
+    AFTER UPDATE ON projects REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION bump_projects_version();
+
+COMMIT;
@@ -0,0 +1,49 @@
+-- Migration 007: day_number is the working day within the week
+-- Databases upgraded through the first version of migration 004 limit
+-- schedule.day_number to the planning horizon, while schema.sql and the
+-- application store one week per row with day_number 1-5. Rows planned past
+-- Friday are moved to the matching day of a later week, after that day's last
+-- slot (a project already planned in that week keeps its existing row), and
+-- chk_day_number is replaced with the 1-5 check.
+-- Usage: psql -d projectscheduledb -f migrations/007_schedule_day_number.sql
+
+BEGIN;
+
+ALTER TABLE schedule DROP CONSTRAINT IF EXISTS chk_day_number;
+
+-- Partitions for the years rows move into
+DO $$
+DECLARE
+    y INTEGER;
+BEGIN
+    FOR y IN
+        SELECT DISTINCT EXTRACT(YEAR FROM week_start_date + 7 * ((day_number - 1) / 5))::int
+        FROM schedule WHERE day_number > 5
+    LOOP
+        EXECUTE format('CREATE TABLE IF NOT EXISTS schedule_y%s PARTITION OF schedule FOR VALUES FROM (%L) TO (%L)',
+                       y, make_date(y, 1, 1), make_date(y + 1, 1, 1));
+    END LOOP;
+END
+$$;
+
+WITH moved AS (
+    DELETE FROM schedule WHERE day_number > 5
+    RETURNING week_start_date + 7 * ((day_number - 1) / 5) AS week_start_date,
+              project_id, (day_number - 1) % 5 + 1 AS day_number, week_start_date AS from_week,
+              slot AS from_slot, scheduled_at
+)
+INSERT INTO schedule (week_start_date, project_id, day_number, slot, day_name, scheduled_at)
+SELECT m.week_start_date, m.project_id, m.day_number,
+       COALESCE((SELECT max(s.slot) FROM schedule s
+                 WHERE s.week_start_date = m.week_start_date AND s.day_number = m.day_number), 0)
+           + row_number() OVER (PARTITION BY m.week_start_date, m.day_number ORDER BY m.from_week, m.from_slot),
+       (ARRAY['Monday', 'Tuesday', 'Wednesday', 'Thursday', 'Friday'])[m.day_number],
+       m.scheduled_at
+FROM moved m
+ON CONFLICT DO NOTHING;
+
+ALTER TABLE schedule ADD CONSTRAINT chk_day_number CHECK (day_number BETWEEN 1 AND 5);
+
+COMMIT;
+
+ANALYZE schedule;
@@ -1,12 +1,13 @@
-INSERT INTO projects (title, deadline, revenue, status) VALUES
-                                                            ('E-commerce Website UI Design', 3, 15000.00, 'PENDING'),
-                                                            ('Mobile App Development', 5, 25000.00, 'PENDING'),
-                                                            ('Database Migration', 2, 10000.00, 'PENDING'),
-                                                            ('API Integration', 4, 18000.00, 'PENDING'),
-                                                            ('Security Audit', 1, 8000.00, 'PENDING'),
-                                                            ('Cloud Deployment', 3, 20000.00, 'PENDING'),
-                                                            ('Performance Testing', 5, 12000.00, 'PENDING'),
-                                                            ('Bug Fixes', 2, 5000.00, 'PENDING');
+-- Status defaults to 0 (PENDING)
+INSERT INTO projects (title, deadline, revenue) VALUES
+                                                            ('E-commerce Website UI Design', 3, 15000.00),
+                                                            ('Mobile App Development', 5, 25000.00),
+                                                            ('Database Migration', 2, 10000.00),
+                                                            ('API Integration', 4, 18000.00),
+                                                            ('Security Audit', 1, 8000.00),
+                                                            ('Cloud Deployment', 3, 20000.00),
+                                                            ('Performance Testing', 5, 12000.00),
+                                                            ('Bug Fixes', 2, 5000.00);
 
 -- Verify data
 SELECT * FROM projects ORDER BY revenue DESC;
\ No newline at end of file
@@ -1,6 +1,18 @@
+-- Planning horizon in working days (default 5 = Monday to Friday)
+-- Override with: psql -v horizon_days=30 -f schema.sql
+-- Must match scheduler.horizonDays in promanage.properties
+\if :{?horizon_days}
+\else
+\set horizon_days 5
+\endif
+
 -- Drop table if exists (for fresh start)
 DROP TABLE IF EXISTS projects CASCADE;
 DROP TABLE IF EXISTS schedule CASCADE;
+DROP TABLE IF EXISTS projects_version;
+DROP TABLE IF EXISTS projects_archive;
+DROP FUNCTION IF EXISTS bump_projects_version();
+DROP FUNCTION IF EXISTS set_completed_at();
 DROP SEQUENCE IF EXISTS project_id_seq;
 
 -- Create sequence for auto-generating project IDs
@@ -15,31 +27,137 @@ CREATE SEQUENCE project_id_seq
 CREATE TABLE projects (
                           project_id INTEGER PRIMARY KEY DEFAULT nextval('project_id_seq'),
                           title VARCHAR(200) NOT NULL,
-                          deadline INTEGER NOT NULL CHECK (deadline > 0 AND deadline <= 5),
+                          deadline INTEGER NOT NULL,
                           revenue DECIMAL(10, 2) NOT NULL CHECK (revenue > 0),
-                          status VARCHAR(20) DEFAULT 'PENDING',
+                          status SMALLINT NOT NULL DEFAULT 0, -- 0 = PENDING, 1 = SCHEDULED, 2 = COMPLETED
                           created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
-                          CONSTRAINT chk_status CHECK (status IN ('PENDING', 'SCHEDULED', 'COMPLETED'))
+                          completed_at TIMESTAMP, -- set by trg_projects_completed_at
+                          CONSTRAINT chk_deadline CHECK (deadline > 0 AND deadline <= :horizon_days),
+                          CONSTRAINT chk_status CHECK (status IN (0, 1, 2))
 );
 
 -- Create schedule table
+-- One row per scheduled project and planned week. Partitioned by
+-- week_start_date into one partition per year (schedule_y2025, ...), which
+-- ScheduleDAOImpl creates on first use; dropping a year's partition prunes
+-- its history without a DELETE. Plans longer than five working days continue
+-- in the following weeks' rows. slot numbers the projects within a day in the
+-- order they were stored; runs that add to a week continue after its last
+-- slot. There is no foreign key to projects: history outlives projects that
+-- are archived to projects_archive.
 CREATE TABLE schedule (
-                          schedule_id SERIAL PRIMARY KEY,
+                          week_start_date DATE NOT NULL,
                           project_id INTEGER NOT NULL,
-                          day_number INTEGER NOT NULL CHECK (day_number >= 1 AND day_number <= 5),
+                          day_number INTEGER NOT NULL,
+                          slot INTEGER NOT NULL DEFAULT 1,
                           day_name VARCHAR(10) NOT NULL,
-                          week_start_date DATE NOT NULL,
                           scheduled_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
-                          CONSTRAINT fk_project FOREIGN KEY (project_id) REFERENCES projects(project_id) ON DELETE CASCADE,
-                          CONSTRAINT unique_day_per_week UNIQUE (week_start_date, day_number),
+                          CONSTRAINT pk_schedule PRIMARY KEY (week_start_date, project_id),
+                          CONSTRAINT unique_slot_per_week UNIQUE (week_start_date, day_number, slot),
+                          CONSTRAINT chk_day_number CHECK (day_number BETWEEN 1 AND 5), -- working day within the week
+                          CONSTRAINT chk_slot CHECK (slot >= 1),
+                          CONSTRAINT chk_week_start CHECK (EXTRACT(ISODOW FROM week_start_date) = 1),
                           CONSTRAINT chk_day_name CHECK (day_name IN ('Monday', 'Tuesday', 'Wednesday', 'Thursday', 'Friday'))
-);
+) PARTITION BY RANGE (week_start_date);
 
 -- Create indexes for better query performance
 CREATE INDEX idx_projects_status ON projects(status);
+-- Covers the scheduler's pending read (status = PENDING, ordered by revenue)
+-- so it can be answered by an index-only scan without touching the heap
+CREATE INDEX idx_projects_pending_revenue ON projects (revenue DESC, project_id)
+    INCLUDE (deadline) WHERE status = 0;
 CREATE INDEX idx_projects_deadline ON projects(deadline);
-CREATE INDEX idx_schedule_week ON schedule(week_start_date);
+-- Week and date-range lookups use pk_schedule; a project's history uses this
+CREATE INDEX idx_schedule_project ON schedule(project_id, week_start_date);
+
+-- Change counter for the pending set, bumped once per statement that inserts,
+-- deletes or changes a PENDING row (status 0 before or after the statement)
+-- The application memoizes schedules keyed by this value (scheduler.memoizeResults)
+CREATE TABLE projects_version (
+                          id BOOLEAN PRIMARY KEY DEFAULT TRUE CHECK (id),
+                          version BIGINT NOT NULL DEFAULT 0
+);
+INSERT INTO projects_version DEFAULT VALUES;
+
+-- Statements that only touch SCHEDULED or COMPLETED rows (archiving, marking a
+-- project completed) leave the counter, and so its row lock, alone. Each branch
+-- reads only the transition table its trigger declares.
+CREATE FUNCTION bump_projects_version() RETURNS trigger AS $$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        IF NOT EXISTS (SELECT 1 FROM new_rows WHERE status = 0) THEN
+            RETURN NULL;
+        END IF;
+    ELSIF TG_OP = 'DELETE' THEN
+        IF NOT EXISTS (SELECT 1 FROM old_rows WHERE status = 0) THEN
+            RETURN NULL;
+        END IF;
+    ELSIF TG_OP = 'UPDATE' THEN
+        IF NOT EXISTS (SELECT 1 FROM old_rows o JOIN new_rows n USING (project_id)
+                       WHERE (o.status = 0 OR n.status = 0)
+                         AND (o.status, o.deadline, o.revenue)
+                             IS DISTINCT FROM (n.status, n.deadline, n.revenue)) THEN
+            RETURN NULL;
+        END IF;
+    END IF;
+    UPDATE projects_version SET version = version + 1;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Transition tables need one trigger per event and no column list
+CREATE TRIGGER trg_projects_version_insert
+    AFTER INSERT ON projects REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION bump_projects_version();
+CREATE TRIGGER trg_projects_version_delete
+    AFTER DELETE ON projects REFERENCING OLD TABLE AS old_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION bump_projects_version();
+CREATE TRIGGER trg_projects_version_update
+    AFTER UPDATE ON projects REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION bump_projects_version();
+CREATE TRIGGER trg_projects_version_truncate
+    AFTER TRUNCATE ON projects
+    FOR EACH STATEMENT EXECUTE FUNCTION bump_projects_version();
+
+-- Cold storage for completed projects, filled in batches by ProjectArchiver
+-- once they have been completed for longer than archive.retentionDays
+CREATE TABLE projects_archive (
+                          project_id INTEGER PRIMARY KEY,
+                          title VARCHAR(200) NOT NULL,
+                          deadline INTEGER NOT NULL,
+                          revenue DECIMAL(10, 2) NOT NULL,
+                          status SMALLINT NOT NULL,
+                          created_at TIMESTAMP,
+                          completed_at TIMESTAMP,
+                          archived_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+CREATE INDEX idx_projects_archive_completed ON projects_archive (completed_at);
+
+-- Lets the archiver find completed projects past retention without a full scan
+CREATE INDEX idx_projects_completed ON projects (completed_at, project_id) WHERE status = 2;
+
+-- Stamps completed_at when a project becomes COMPLETED, clears it when it leaves
+CREATE FUNCTION set_completed_at() RETURNS trigger AS $$
+BEGIN
+    IF NEW.status = 2 THEN
+        NEW.completed_at := COALESCE(NEW.completed_at, CURRENT_TIMESTAMP);
+    ELSE
+        NEW.completed_at := NULL;
+    END IF;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Row triggers only fire for rows whose status actually changes (or that are
+-- inserted as COMPLETED), so bulk scheduling updates stay cheap
+CREATE TRIGGER trg_projects_completed_at
+    BEFORE UPDATE OF status ON projects
+    FOR EACH ROW WHEN (OLD.status IS DISTINCT FROM NEW.status) EXECUTE FUNCTION set_completed_at();
+CREATE TRIGGER trg_projects_completed_at_insert
+    BEFORE INSERT ON projects
+    FOR EACH ROW WHEN (NEW.status = 2) EXECUTE FUNCTION set_completed_at();
 
 -- Display table structures
 \d projects
-\d schedule
\ No newline at end of file
+\d schedule
+\d projects_archive